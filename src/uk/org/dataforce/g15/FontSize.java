@@ -24,45 +24,81 @@
 package uk.org.dataforce.g15;
 
 import java.awt.Dimension;
+import java.io.FileNotFoundException;
+import java.io.IOException;
 import uk.org.dataforce.g15.fonts.G15Font;
-import uk.org.dataforce.g15.fonts.Font_4x6;
-import uk.org.dataforce.g15.fonts.Font_5x7;
-import uk.org.dataforce.g15.fonts.Font_8x8;
+import uk.org.dataforce.g15.fonts.G15BitmapFont;
 
 public enum FontSize {
 	/** This is for small text. */
-	SMALL ('S', 0, new Font_4x6()),
+	SMALL ('S', 0, "4x6"),
 	/** This is for medium text. */
-	MEDIUM ('M', 1, new Font_5x7()),
+	MEDIUM ('M', 1, "5x7"),
 	/** This is for large text. */
-	LARGE ('L', 2, new Font_8x8());
+	LARGE ('L', 2, "8x8");
 	
 	/** Character value of this enum. */
 	final char myCharValue;
 	/** Integer value of this enum. */
 	final int myIntValue;
-	/** G15Font of this font. */
-	final G15Font myFont;
+	/** Name of the G15BitmapFont for this font. */
+	final String myFontName;
+	/** G15Font of this font, loaded when first needed. */
+	private volatile G15Font myFont = null;
 	
 	/**
 	 * Create a new FontSize.
 	 *
 	 * @param charValue Character value of this enum.
 	 * @param intValue Integer value of this enum.
-	 * @param G15Font font for this font.
+	 * @param fontName Name of the G15BitmapFont for this font.
 	 */
-	FontSize (final char charValue, final int intValue, final G15Font font) {
+	FontSize (final char charValue, final int intValue, final String fontName) {
 		myCharValue = charValue;
 		myIntValue = intValue;
-		myFont = font;
+		myFontName = fontName;
 	}
 	
 	/**
 	 * Get the Font of this enum.
+	 * The font is loaded the first time this is called.
 	 *
-	 * @return Font of this enum.
+	 * @return Font of this enum, or null if it could not be loaded.
 	 */
-	public G15Font getFont() { return myFont; }
+	public G15Font getFont() {
+		G15Font font = myFont;
+		if (font == null) {
+			synchronized (this) {
+				font = myFont;
+				if (font == null) {
+					try {
+						font = G15BitmapFont.load(myFontName);
+						loadExtraFont(font);
+						myFont = font;
+					} catch (IOException ioe) {
+						System.out.println("Unable to load font "+myFontName+": "+ioe.getMessage());
+					}
+				}
+			}
+		}
+		return font;
+	}
+	
+	/**
+	 * Load the optional font with extra characters for this size, such as
+	 * "4x6-extra", and use it as the fallback for the given font.
+	 *
+	 * @param font Font to give the extra characters to
+	 */
+	private void loadExtraFont(final G15Font font) {
+		try {
+			font.setFallback(G15BitmapFont.load(myFontName+"-extra"));
+		} catch (FileNotFoundException fnfe) {
+			// Most sizes do not have one.
+		} catch (IOException ioe) {
+			System.out.println("Unable to load font "+myFontName+"-extra: "+ioe.getMessage());
+		}
+	}
 	
 	/**
 	 * Get the integer value of this enum.
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2006-2008 Shane Mc Cormack
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SVN: $Id$
+ */
+package uk.org.dataforce.g15;
+
+/**
+ * Screen buffer formats understood by g15daemon.
+ * g15daemon does not reply to the screen type, so the format can not be
+ * negotiated; it is chosen by the bufferformat setting in the config file and
+ * there is no fallback at runtime.
+ */
+public enum G15BufferFormat {
+	/** One byte per pixel. */
+	GBUF ("GBUF", "gbuf", G15Wrapper.LCD_WIDTH * G15Wrapper.LCD_HEIGHT),
+	/**
+	 * Packed WBMP image, one bit per pixel plus a 5 byte header.
+	 * A g15daemon without WBUF support leaves the screen blank, or drops the
+	 * connection which then keeps being reopened with the same screen type.
+	 */
+	WBUF ("WBUF", "wbmp", 5 + ((G15Wrapper.LCD_WIDTH + 7) / 8) * G15Wrapper.LCD_HEIGHT);
+	
+	/** Screen type sent to g15daemon to select this format. */
+	final String myScreenType;
+	/** Name of this format in the config file. */
+	final String myConfigName;
+	/** Number of bytes needed for each frame. */
+	final int myFrameSize;
+	
+	/**
+	 * Create a new G15BufferFormat.
+	 *
+	 * @param screenType Screen type sent to g15daemon to select this format.
+	 * @param configName Name of this format in the config file.
+	 * @param frameSize Number of bytes needed for each frame.
+	 */
+	G15BufferFormat (final String screenType, final String configName, final int frameSize) {
+		myScreenType = screenType;
+		myConfigName = configName;
+		myFrameSize = frameSize;
+	}
+	
+	/**
+	 * Get the screen type sent to g15daemon to select this format.
+	 *
+	 * @return screen type of this format.
+	 */
+	public String getScreenType() { return myScreenType; }
+	
+	/**
+	 * Get the name of this format in the config file.
+	 *
+	 * @return config name of this format.
+	 */
+	public String getConfigName() { return myConfigName; }
+	
+	/**
+	 * Get the number of bytes needed for each frame.
+	 *
+	 * @return frame size of this format.
+	 */
+	public int getFrameSize() { return myFrameSize; }
+	
+	/**
+	 * Get the format with the given config name.
+	 *
+	 * @param configName Name from the config file
+	 * @return The matching format, or GBUF if there is no match.
+	 */
+	public static G15BufferFormat fromConfigName(final String configName) {
+		for (G15BufferFormat format : values()) {
+			if (format.getConfigName().equalsIgnoreCase(configName) || format.getScreenType().equalsIgnoreCase(configName)) {
+				return format;
+			}
+		}
+		return GBUF;
+	}
+}
@@ -0,0 +1,653 @@
+/*
+ * Copyright (c) 2006-2008 Shane Mc Cormack
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SVN: $Id$
+ */
+package uk.org.dataforce.g15;
+
+import uk.org.dataforce.g15.fonts.G15Font;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.awt.geom.Rectangle2D;
+import java.awt.FontFormatException;
+import java.awt.font.FontRenderContext;
+import java.awt.font.LineMetrics;
+
+import java.awt.image.BufferedImage;
+import java.awt.Graphics2D;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Rectangle;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Base for wrappers that draw into a G15FrameBuffer.
+ * All drawing is done here, subclasses only need to send the frame somewhere
+ * when it is committed.
+ */
+public abstract class G15BufferedWrapper extends G15Wrapper {
+	/**
+	 * Back buffer used to draw on.
+	 * This is only used by the drawing thread, so needs no locking.
+	 */
+	protected final G15FrameBuffer frame = new G15FrameBuffer(LCD_WIDTH, LCD_HEIGHT);
+	/**
+	 * Image used for operations that still need Java2D, the frame is copied in
+	 * and out of this as needed.
+	 */
+	private BufferedImage image = new BufferedImage(LCD_WIDTH, LCD_HEIGHT, BufferedImage.TYPE_BYTE_BINARY);
+	/** Graphics for the image */
+	private Graphics2D graphicsArea = image.createGraphics();
+	
+	/** How many lines of text should new instances cache? */
+	public static int textCacheSize = 128;
+	/** Lines of text drawn with drawText. */
+	private final G15TextCache textCache = new G15TextCache(textCacheSize);
+	
+	/** FontSlot hashmap */
+	private HashMap<String, Font> fontSlots = new HashMap<String, Font>();
+	
+	/** Most rendered lines of text to keep in textRasters. */
+	private static final int TEXT_RASTER_CACHE_SIZE = 64;
+	/**
+	 * Rendered lines of text from drawFont, keyed by font slot name and text.
+	 * The least recently used line is dropped when this is full.
+	 */
+	private final LinkedHashMap<String, TextRaster> textRasters = new LinkedHashMap<String, TextRaster>(16, 0.75f, true) {
+		/** Serial version. */
+		private static final long serialVersionUID = 1L;
+		
+		/**
+		 * Drop the least recently used line when there are too many.
+		 *
+		 * @param eldest Least recently used entry
+		 * @return true if eldest should be removed.
+		 */
+		protected boolean removeEldestEntry(final Map.Entry<String, TextRaster> eldest) {
+			return size() > TEXT_RASTER_CACHE_SIZE;
+		}
+	};
+	
+	/**
+	 * A line of text rendered by Java2D, with the metrics drawFont needs to
+	 * position it.
+	 */
+	private static class TextRaster {
+		/** Rendered text, black where Java2D drew. */
+		final G15FrameBuffer mask;
+		/** Position of the left of the mask, relative to where the text is drawn. */
+		final int left;
+		/** Position of the top of the mask, relative to the baseline. */
+		final int top;
+		/** Height of the line. */
+		final double height;
+		/** Width of the line. */
+		final int width;
+		/** Descent of the line. */
+		final float descent;
+		
+		/**
+		 * Create a new TextRaster.
+		 *
+		 * @param mask Rendered text
+		 * @param left Left of the mask relative to where the text is drawn
+		 * @param top Top of the mask relative to the baseline
+		 * @param height Height of the line
+		 * @param width Width of the line
+		 * @param descent Descent of the line
+		 */
+		TextRaster(final G15FrameBuffer mask, final int left, final int top, final double height, final int width, final float descent) {
+			this.mask = mask;
+			this.left = left;
+			this.top = top;
+			this.height = height;
+			this.width = width;
+			this.descent = descent;
+		}
+	}
+	
+	/**
+	 * Are we emulating G15Composer?
+	 * Enabling this mode makes us copy some of G15Composers quirks, such as
+	 * - Centered text ignoring the X value for the position.
+	 * - Needing to load fonts for each size you want to use (in non-composer mode
+	 *   we ignore the size in loadFont)
+	 */
+	protected boolean emulateComposer = true;
+	
+	/**
+	 * Get the cache used by drawText, so its hit rate can be checked.
+	 *
+	 * @return Cache of text drawn with drawText.
+	 */
+	public G15TextCache getTextCache() {
+		return textCache;
+	}
+	
+	/**
+	 * Convert a boolean into a char
+	 *
+	 * @param bool Boolean to convert
+	 * @return white for false, black for true.
+	 */
+	private Color convertBoolean(boolean bool) {
+		if (bool == true) {
+			return Color.black;
+		} else {
+			return Color.white;
+		}
+	}
+
+	/**
+	 * Prepare to draw on the frame with Java2D using graphicsArea.
+	 * This copies the frame into the image, endGraphics() must be called when
+	 * finished to copy it back.
+	 */
+	private void beginGraphics() {
+		frame.toImage(image);
+	}
+	
+	/**
+	 * Copy the result of Java2D drawing back into the frame.
+	 */
+	private void endGraphics() {
+		frame.fromImage(image);
+	}
+	
+	/**
+	 * Get an image of the current frame.
+	 * The image is reused, so it is only valid until the next drawing operation.
+	 *
+	 * @return Image of the current frame.
+	 */
+	protected BufferedImage getImage() {
+		frame.toImage(image);
+		return image;
+	}
+
+	/**
+	 * Draw to the screen without throwing an exception.
+	 *
+	 * @return true if draw was successful, else false
+	 */
+	public boolean silentDraw() {
+		try {
+			draw();
+			return true;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Replace the whole frame with another, such as a plugin's offscreen frame.
+	 * The frame is not drawn until draw() is called.
+	 *
+	 * @param source Frame to copy
+	 */
+	public void drawFrame(final G15FrameBuffer source) {
+		frame.copyFrom(source);
+	}
+
+	/**
+	 * Draw a line of text in the default position.
+	 *
+	 * @param size FontSize of text to draw.
+	 * @param text String[] of lines to draw
+	 */
+	public void drawText(FontSize size, String[] text) {
+		int height = 0;
+		for (String line : text) {
+			drawText(size, 0, height, G15Position.LEFT, line);
+			height = height + size.getFont().getHeight();
+		}
+	}
+
+	/**
+	 * Draw a line of text to a specific position.
+	 *
+	 * @param size FontSize of text to draw.
+	 * @param x X of location to draw text
+	 * @param y Y of location to draw text
+	 * @param position G15Position to draw text (left, right, center)
+	 * @param text String[] of lines to draw
+	 */
+	public void drawText(FontSize size, int x, int y, G15Position position, String[] text) {
+		int height = y;
+		for (String line : text) {
+			drawText(size, x, height, position, line);
+			height = height + size.getFont().getHeight();
+		}
+	}
+	
+	/**
+	 * Draw a line of text in the default position.
+	 *
+	 * @param size FontSize of text to draw.
+	 * @param text line to draw
+	 */
+	public void drawText(FontSize size, String text) {
+		drawText(size, 0, 0, G15Position.LEFT, text);
+	}
+
+	/**
+	 * Draw a line of text to a specific position.
+	 *
+	 * @param size FontSize of text to draw.
+	 * @param x X of location to draw text
+	 * @param y Y of location to draw text
+	 * @param position G15Position to draw text (left, right, center)
+	 * @param text line to draw
+	 */
+	public void drawText(FontSize size, int x, int y, G15Position position, String text) {
+		G15Font font = size.getFont();
+		if (font != null) {
+			final G15FrameBuffer line = textCache.get(size, font, text);
+			int startPos = x;
+			int fontWidth = line.width();
+			if (position == G15Position.CENTER) {
+				if (emulateComposer) {
+					startPos = 0;
+				}
+				int midpoint = startPos+(LCD_WIDTH-startPos)/2;
+				startPos = midpoint-(fontWidth/2);
+			} else if (position == G15Position.RIGHT) {
+				startPos = LCD_WIDTH-fontWidth;
+			}
+			
+			frame.drawBuffer(line, startPos, y);
+		}
+	}
+
+	/**
+	 * Loads a font into a font slot.
+	 *
+	 * @param fontSlot Which slot to load font into
+	 * @param size Size of font
+	 * @param pathToFont Path to font file
+	 */
+	public void loadFont(int fontSlot, int size, String pathToFont) {
+		final String slotName = "Font-"+fontSlot + ((emulateComposer) ? "-"+size : "");
+		if (fontSlots.containsKey(slotName)) {
+			fontSlots.remove(slotName);
+		}
+		textRasters.clear();
+		final File fontFile = new File(pathToFont);
+		if (fontFile.exists() && fontFile.isFile()) {
+			try {
+				final Font font = Font.createFont(Font.TRUETYPE_FONT, fontFile);
+				fontSlots.put(slotName, font);
+			} catch (FontFormatException ffe) {
+			} catch (IOException ioe) {
+			}
+		}
+	}
+
+	/**
+	 * Draw text using specified font
+	 *
+	 * @param fontSlot Font slot for font
+	 * @param size size of font
+	 * @param x X of location to draw text at
+	 * @param y Y of location to draw text at
+	 * @param isBlack True for bacl text, false for white
+	 * @param position Position for text
+	 * @param text Text to output
+	 */
+	public void drawFont(int fontSlot, int size, int x, int y, boolean isBlack, G15Position position, String text) {
+		drawFont(fontSlot, size, x, y, isBlack, position, new String[]{text});
+	}
+	
+	/**
+	 * Draw text using specified font
+	 *
+	 * @param fontSlot Font slot for font
+	 * @param size size of font
+	 * @param x X of location to draw text at
+	 * @param y Y of location to draw text at
+	 * @param isBlack True for bacl text, false for white
+	 * @param position Position for text
+	 * @param text Text to output
+	 */
+	public void drawFont(int fontSlot, int size, int x, int y, boolean isBlack, G15Position position, String[] text) {
+		final String slotName = "Font-"+fontSlot + ((emulateComposer) ? "-"+size : "");
+		if (!fontSlots.containsKey(slotName)) {
+			return;
+		}
+		
+		final Font font = fontSlots.get(slotName);
+		
+		// Start location (point is bottom-left
+		int currentTop = y;
+		for (int i = 0; i < text.length; ++i) {
+			final TextRaster raster = getTextRaster(slotName, font, text[i]);
+			// Drawing is done in the bottom left corner, so we add the height
+			// of the line, to the current "top" position, to find out where we should
+			// draw.
+			currentTop += raster.height;
+			// However, we need to take into account the overhang in characters like y and g
+			int lineY = Math.round(currentTop - raster.descent);
+			
+			// Now to get where the left should go.
+			int lineX = x;
+			int fontWidth = raster.width;
+			if (position == G15Position.CENTER) {
+				if (emulateComposer) {
+					lineX = 0;
+				}
+				int midpoint = lineX+(LCD_WIDTH-lineX)/2;
+				lineX = midpoint-(fontWidth/2);
+			} else if (position == G15Position.RIGHT) {
+				lineX = LCD_WIDTH-fontWidth;
+			}
+			
+			// And draw.
+			frame.drawMask(raster.mask, lineX + raster.left, lineY + raster.top, isBlack);
+		}
+	}
+	
+	/**
+	 * Get a line of text rendered in a font, rendering it if it is not cached.
+	 *
+	 * @param slotName Name of the font slot the font is in
+	 * @param font Font to render with
+	 * @param text Text to render
+	 * @return The rendered text.
+	 */
+	private TextRaster getTextRaster(final String slotName, final Font font, final String text) {
+		final String key = slotName + "\n" + text;
+		TextRaster raster = textRasters.get(key);
+		if (raster == null) {
+			final FontRenderContext context = graphicsArea.getFontRenderContext();
+			final Rectangle2D bounds = font.getStringBounds(text, context);
+			final LineMetrics metrics = font.getLineMetrics(text, context);
+			// Leave a margin in case Java2D draws outside the pixel bounds.
+			final Rectangle pixels = font.createGlyphVector(context, text).getPixelBounds(context, 0, 0);
+			final int left = pixels.x - 2;
+			final int top = pixels.y - 2;
+			final int width = Math.max(pixels.width + 4, 1);
+			final int height = Math.max(pixels.height + 4, 1);
+			
+			final BufferedImage textImage = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_BINARY);
+			final Graphics2D textGraphics = textImage.createGraphics();
+			textGraphics.setColor(Color.white);
+			textGraphics.fillRect(0, 0, width, height);
+			textGraphics.setFont(font);
+			textGraphics.setColor(Color.black);
+			textGraphics.drawString(text, -left, -top);
+			textGraphics.dispose();
+			
+			final G15FrameBuffer mask = new G15FrameBuffer(width, height);
+			mask.fromImage(textImage);
+			raster = new TextRaster(mask, left, top, bounds.getHeight(), (int)bounds.getWidth(), metrics.getDescent());
+			textRasters.put(key, raster);
+		}
+		return raster;
+	}
+	
+	/**
+	 * Draws a pixel image of the given Width and Height at the given point
+	 *
+	 * @param x X of location to draw image
+	 * @param y Y of location to draw image
+	 * @param width Width of image
+	 * @param height height of image
+	 * @param pixels String containing image as a string of 0's and 1's (0 = white, 1 = black)
+	 */
+	public void drawPixels(int x, int y, int width, int height, String pixels) {
+		if (pixels.length() < (width*height)) {
+			System.out.println("[drawPixels] Not recieved enough pixels. Not drawing. (Wanted: "+(width*height)+" Got: "+pixels.length()+")");
+			return;
+		} else if (pixels.length() > (width*height)) {
+			System.out.println("[drawPixels] Recieved more pixels than space to draw. This may look wrong!");
+		}
+		for (int row = 0; row < height ; ++row) {
+			for (int col = 0; col < width ; ++col) {
+				final char pixel = pixels.charAt((row*width)+col);
+				frame.setPixel(col+x, row+y, (pixel != 0 && pixel != '0'));
+			}
+		}
+	}
+	
+	/**
+	 * Draws a pixel image of the given PixelImage
+	 *
+	 * @param x X of location to draw image
+	 * @param y Y of location to draw image
+	 * @param PixelImage PixelImage to draw.
+	 */
+	public void drawPixels(int x, int y, PixelImage image) {
+		frame.drawBuffer(image.getBuffer(), x, y);
+	}
+	
+	/**
+	 * Draw a single character from a G15Font, such as a Font_BigNumber digit.
+	 *
+	 * @param x X of location to draw the character
+	 * @param y Y of location to draw the character
+	 * @param font Font to draw with
+	 * @param character Character to draw
+	 */
+	public void drawGlyph(int x, int y, G15Font font, int character) {
+		final int width = font.getWidth();
+		final int height = font.getHeight();
+		final int offset = font.getGlyphOffset(character);
+		if (width > 32) {
+			super.drawGlyph(x, y, font, character);
+		} else if (offset < 0) {
+			frame.fill(x, y, width, height, false);
+		} else {
+			frame.drawRows(x, y, font.getGlyphRows(), offset, width, height);
+		}
+	}
+	
+	/**
+	 * Draw a marquee if it has moved since it was last drawn.
+	 * This scrolls a pixel at a time, by drawing part of the rendered text.
+	 *
+	 * @param marquee Marquee to draw
+	 * @param now Current time from System.currentTimeMillis()
+	 * @return true if the marquee was drawn, else false.
+	 */
+	protected boolean updateMarquee(final G15Marquee marquee, final long now) {
+		final G15FrameBuffer strip = marquee.getStrip();
+		if (strip == null) { return false; }
+		final int offset = marquee.getOffset(now);
+		if (offset == marquee.lastOffset) { return false; }
+		marquee.lastOffset = offset;
+		
+		final int left = marquee.getX();
+		final int right = left + marquee.getWidth();
+		final int top = marquee.getY();
+		frame.fill(left, top, marquee.getWidth(), strip.height(), false);
+		if (marquee.isScrolling()) {
+			// Draw the text, and the start of the next copy after the gap.
+			frame.drawBuffer(strip, left - offset, top, left, right);
+			frame.drawBuffer(strip, left - offset + strip.width() + marquee.getGap(), top, left, right);
+		} else {
+			int startPos = left;
+			if (marquee.getPosition() == G15Position.CENTER) {
+				startPos = left + (marquee.getWidth() - strip.width()) / 2;
+			} else if (marquee.getPosition() == G15Position.RIGHT) {
+				startPos = right - strip.width();
+			}
+			frame.drawBuffer(strip, startPos, top, left, right);
+		}
+		return true;
+	}
+	
+	/**
+	 * Set the colour of the pixel at a given point
+	 *
+	 * @param x X of point to set pixel at
+	 * @param y Y of point to set pixel at
+	 * @param isBlack True to set to black, false to set to white
+	 */
+	public void setPixelColour(int x, int y, boolean isBlack) {
+		frame.setPixel(x, y, isBlack);
+	}
+
+	/**
+	 * Clear the screen and set it all to a specified colour
+	 *
+	 * @param isBlack True to set to black, false to set to white
+	 */
+	public void clearScreen(boolean isBlack) {
+		frame.clear(isBlack);
+	}
+
+	/**
+	 * Fill a specified area in either white or black
+	 *
+	 * @param x1 X of point to start at for area
+	 * @param y1 Y of point to start at for area
+	 * @param x2 X of point to finish at for area
+	 * @param y2 Y of point to finish at for area
+	 * @param isBlack True to set to black, false to set to white
+	 */
+	public void fillArea(int x1, int y1, int x2, int y2, boolean isBlack) {
+		final int x = (x2-x1 > 0) ? x1 : x2;
+		final int y = (y2-y1 > 0) ? y1 : y2;
+		frame.fill(x, y, Math.abs(x2-x1), Math.abs(y2-y1+1), isBlack);
+	}
+
+	/**
+	 * Reverse all the pixels in a specific area
+	 *
+	 * @param x1 X of point to start at for area
+	 * @param y1 Y of point to start at for area
+	 * @param x2 X of point to finish at for area
+	 * @param y2 Y of point to finish at for area
+	 */
+	public void reversePixels(int x1, int y1, int x2, int y2) {
+		frame.invert(x1, y1, x2-x1+1, y2-y1+1);
+	}
+
+	/**
+	 * Draw a box
+	 *
+	 * @param x1 X of point to start at for area
+	 * @param y1 Y of point to start at for area
+	 * @param x2 X of point to finish at for area
+	 * @param y2 Y of point to finish at for area
+	 * @param isBlack True to set to black, false to set to white
+	 * @param thickness Thickness of line
+	 */
+	public void drawBox(int x1, int y1, int x2, int y2, boolean isBlack, int thickness) {
+		final int x = (x2-x1 > 0) ? x1 : x2;
+		final int y = (y2-y1 > 0) ? y1 : y2;
+		frame.drawRect(x, y, Math.abs(x2-x1), Math.abs(y2-y1+1), thickness, isBlack);
+	}
+
+	/**
+	 * Draw a line
+	 *
+	 * @param x1 X of point to start at for line
+	 * @param y1 Y of point to start at for line
+	 * @param x2 X of point to finish at for line
+	 * @param y2 Y of point to finish at for line
+	 * @param isBlack True to set to black, false to set to white
+	 */
+	public void drawLine(int x1, int y1, int x2, int y2, boolean isBlack) {
+		frame.drawLine(x1, y1, x2, y2, isBlack);
+	}
+
+	/**
+	 * Draw a circle
+	 *
+	 * @param x X of center point
+	 * @param y Y of center point
+	 * @param radius Radius of circle
+	 * @param isBlack True to set to black, false to set to white
+	 * @param filled Is the circle filled or not
+	 */
+	public void drawCircle(int x, int y, int radius, boolean isBlack, boolean filled) {
+		frame.drawCircle(x, y, radius, filled, isBlack);
+	}
+
+	/**
+	 * Draw a rounded box
+	 *
+	 * @param x1 X of point to start at for area
+	 * @param y1 Y of point to start at for area
+	 * @param x2 X of point to finish at for area
+	 * @param y2 Y of point to finish at for area
+	 * @param isBlack True to set to black, false to set to white
+	 * @param filled Is the box filled or not
+	 */
+	public void drawRoundedBox(int x1, int y1, int x2, int y2, boolean isBlack, boolean filled) {
+		if (x2-x1 >= 8 && y2-y1 >= 8) {
+			frame.drawRoundedRect(x1, y1, x2-x1, y2-y1, isBlack);
+		} else {
+			// Corners on smaller boxes are not the same shape, leave those to Java2D.
+			beginGraphics();
+			graphicsArea.setColor(convertBoolean(isBlack));
+			graphicsArea.drawRoundRect(x1, y1, x2-x1, y2-y1, 8, 8);
+			endGraphics();
+		}
+	}
+
+	/**
+	 * Draw a progress bar
+	 *
+	 * @param x1 X of point to start at
+	 * @param y1 Y of point to start at
+	 * @param x2 X of point to finish at
+	 * @param y2 Y of point to finish at
+	 * @param isBlack True to set to black, false to set to white
+	 * @param position Position of the bar
+	 * @param maxPosition Max Position of the bar
+	 * @param barType Type of progress bar
+	 */
+	public void drawProgressBar(int x1, int y1, int x2, int y2, boolean isBlack, int position, int maxPosition, ProgressBarType barType) {
+		final int length = getProgressBarLength(x1, x2, position, maxPosition);
+		
+		if (emulateComposer && ((x2 - x1) < 0 || (y2 - y1) < 0)) {
+			// For negative X/Y direction, g15composer doesn't fill the bar...
+			drawBox(x1, y1, x1+1+length, y2-1, isBlack, 1);
+		} else {
+			fillArea(x1, y1, x1+1+length, y2, isBlack);
+		}
+		drawBox(x1, y1-1, x2, y2, isBlack, 1);
+	}
+	
+	/** {@inheritDoc} */
+	public boolean updateProgressBar(int x1, int y1, int x2, int y2, boolean isBlack, int oldLength, int newLength, ProgressBarType barType) {
+		if ((x2 - x1) < 0 || (y2 - y1) < 0) { return false; }
+		// A fill that starts before or runs past the outline needs a full redraw.
+		final int maxLength = x2 - x1;
+		if (oldLength < 0 || newLength < 0 || oldLength > maxLength || newLength > maxLength) { return false; }
+		if (oldLength == newLength) { return true; }
+		
+		// Only the inside of the outline changes, the fill ends at x1+length.
+		final int left = x1 + 1 + Math.min(oldLength, newLength);
+		final int right = Math.min(x1 + Math.max(oldLength, newLength), x2 - 1);
+		if (left <= right) {
+			frame.fill(left, y1, right - left + 1, y2 - y1 + 1, (newLength > oldLength) == isBlack);
+		}
+		return true;
+	}
+}
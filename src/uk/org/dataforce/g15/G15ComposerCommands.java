@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2006-2008 Shane Mc Cormack
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SVN: $Id$
+ */
+package uk.org.dataforce.g15;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A batch of g15composer commands, encoded straight into a reused byte buffer.
+ * Each command is started with start(), given its arguments with add() and
+ * finished with end(), so no Strings are built for the commands, and a whole
+ * frame of them can be sent with a single write.
+ *
+ * This is not thread safe, a batch is only used by one thread at a time.
+ */
+public class G15ComposerCommands {
+	/** Encoded commands. */
+	private byte[] myData = new byte[1024];
+	/** Number of bytes used in myData. */
+	private int mySize = 0;
+	/** Do any of the commands depend on what is already on the screen? */
+	private boolean myReadsScreen = false;
+	
+	/**
+	 * Start a new command.
+	 *
+	 * @param name Name of the command, such as "PS"
+	 * @return This batch, to allow arguments to be chained.
+	 */
+	public G15ComposerCommands start(final String name) {
+		final int length = name.length();
+		ensureSpace(length);
+		for (int i = 0; i < length; ++i) {
+			myData[mySize++] = (byte)name.charAt(i);
+		}
+		return this;
+	}
+	
+	/**
+	 * Add a number to the current command.
+	 *
+	 * @param value Number to add
+	 * @return This batch, to allow arguments to be chained.
+	 */
+	public G15ComposerCommands add(final int value) {
+		// Sign plus up to 10 digits, after the space.
+		ensureSpace(12);
+		myData[mySize++] = ' ';
+		long number = value;
+		if (number < 0) {
+			myData[mySize++] = '-';
+			number = -number;
+		}
+		final int start = mySize;
+		do {
+			myData[mySize++] = (byte)('0' + (number % 10));
+			number /= 10;
+		} while (number != 0);
+		// The digits were written backwards.
+		for (int i = start, j = mySize - 1; i < j; ++i, --j) {
+			final byte temp = myData[i];
+			myData[i] = myData[j];
+			myData[j] = temp;
+		}
+		return this;
+	}
+	
+	/**
+	 * Add a boolean to the current command, as 1 or 0.
+	 *
+	 * @param value Boolean to add
+	 * @return This batch, to allow arguments to be chained.
+	 */
+	public G15ComposerCommands add(final boolean value) {
+		ensureSpace(2);
+		myData[mySize++] = ' ';
+		myData[mySize++] = (byte)((value) ? '1' : '0');
+		return this;
+	}
+	
+	/**
+	 * Add a quoted string to the current command.
+	 * Any quotes in the string are escaped with a backslash.
+	 *
+	 * @param value String to add
+	 * @return This batch, to allow arguments to be chained.
+	 */
+	public G15ComposerCommands add(final String value) {
+		final int length = value.length();
+		// Worst case, every character is an escaped quote.
+		ensureSpace(length * 2 + 3);
+		final int start = mySize;
+		myData[mySize++] = ' ';
+		myData[mySize++] = '"';
+		for (int i = 0; i < length; ++i) {
+			final char c = value.charAt(i);
+			if (c >= 0x80) {
+				// Not ASCII, let the platform encode it instead.
+				mySize = start;
+				return addEncoded(value);
+			} else if (c == '"') {
+				myData[mySize++] = '\\';
+			}
+			myData[mySize++] = (byte)c;
+		}
+		myData[mySize++] = '"';
+		return this;
+	}
+	
+	/**
+	 * Add a quoted string that isn't plain ASCII to the current command.
+	 * This is encoded in the platform charset, as the composer expects.
+	 *
+	 * @param value String to add
+	 * @return This batch, to allow arguments to be chained.
+	 */
+	private G15ComposerCommands addEncoded(final String value) {
+		final StringBuilder builder = new StringBuilder(value.length() + 3);
+		builder.append(" \"");
+		for (int i = 0; i < value.length(); ++i) {
+			final char c = value.charAt(i);
+			if (c == '"') { builder.append('\\'); }
+			builder.append(c);
+		}
+		builder.append('"');
+		final byte[] bytes = builder.toString().getBytes();
+		ensureSpace(bytes.length);
+		System.arraycopy(bytes, 0, myData, mySize, bytes.length);
+		mySize += bytes.length;
+		return this;
+	}
+	
+	/**
+	 * Add several quoted strings to the current command.
+	 *
+	 * @param values Strings to add
+	 * @return This batch, to allow arguments to be chained.
+	 */
+	public G15ComposerCommands add(final String[] values) {
+		for (String value : values) {
+			add(value);
+		}
+		return this;
+	}
+	
+	/**
+	 * Finish the current command.
+	 */
+	public void end() {
+		ensureSpace(1);
+		myData[mySize++] = '\n';
+	}
+	
+	/**
+	 * Note that a command in this batch depends on what is already on the
+	 * screen (such as reversing pixels), so sending the batch twice does not
+	 * give the same screen as sending it once.
+	 */
+	public void setReadsScreen() {
+		myReadsScreen = true;
+	}
+	
+	/**
+	 * Does any command in this batch depend on what is already on the screen?
+	 *
+	 * @return true if setReadsScreen() has been called since the last clear().
+	 */
+	public boolean readsScreen() {
+		return myReadsScreen;
+	}
+	
+	/**
+	 * Is this batch empty?
+	 *
+	 * @return true if there are no commands in this batch.
+	 */
+	public boolean isEmpty() {
+		return mySize == 0;
+	}
+	
+	/**
+	 * Remove all the commands from this batch.
+	 * The buffer is kept to be used again.
+	 */
+	public void clear() {
+		mySize = 0;
+		myReadsScreen = false;
+	}
+	
+	/**
+	 * Add all the commands from another batch to the end of this one.
+	 *
+	 * @param other Batch to add
+	 */
+	public void append(final G15ComposerCommands other) {
+		ensureSpace(other.mySize);
+		System.arraycopy(other.myData, 0, myData, mySize, other.mySize);
+		mySize += other.mySize;
+		myReadsScreen |= other.myReadsScreen;
+	}
+	
+	/**
+	 * Check if this batch holds exactly the same commands as another.
+	 *
+	 * @param other Batch to compare to
+	 * @return true if both batches would send the same bytes.
+	 */
+	public boolean sameCommands(final G15ComposerCommands other) {
+		if (mySize != other.mySize) { return false; }
+		for (int i = 0; i < mySize; ++i) {
+			if (myData[i] != other.myData[i]) { return false; }
+		}
+		return true;
+	}
+	
+	/**
+	 * Write all the commands in this batch with a single write.
+	 *
+	 * @param out Stream to write to
+	 * @throws IOException If the stream could not be written to
+	 */
+	public void writeTo(final OutputStream out) throws IOException {
+		out.write(myData, 0, mySize);
+	}
+	
+	/**
+	 * Get the encoded commands as a String, for debugging.
+	 *
+	 * @return The commands, one per line.
+	 */
+	public String toString() {
+		return new String(myData, 0, mySize);
+	}
+	
+	/**
+	 * Make sure there is room for more bytes in the buffer, growing it if
+	 * needed.
+	 *
+	 * @param needed Number of bytes that are about to be added
+	 */
+	private void ensureSpace(final int needed) {
+		if (mySize + needed > myData.length) {
+			final byte[] newData = new byte[Math.max(myData.length * 2, mySize + needed)];
+			System.arraycopy(myData, 0, newData, 0, mySize);
+			myData = newData;
+		}
+	}
+}
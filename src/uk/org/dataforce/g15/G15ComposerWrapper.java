@@ -23,22 +23,29 @@
  */
 package uk.org.dataforce.g15;
 
-import java.awt.Point;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.util.ArrayList;
 
 /**
  * G15Composer Wrapper for LCD Drawing.
  * This class relies on g15composer
  */
 public class G15ComposerWrapper extends G15Wrapper {
-	/** Arraylist of stuff to draw. */
-	private ArrayList<String> instructions = new ArrayList<String>();
+	/** Instructions for the current frame. */
+	private G15ComposerCommands instructions = new G15ComposerCommands();
+	/**
+	 * Instructions that were last sent to the composer.
+	 * This is only used by the sender thread.
+	 */
+	private G15ComposerCommands lastInstructions = new G15ComposerCommands();
 	/** File output stream. */
 	private FileOutputStream myOutput;
+	/** Held while writing to myOutput, so that lines are never interleaved. */
+	private final Object outputLock = new Object();
+	/** Sends instructions to the composer. */
+	private final G15FrameSender<G15ComposerCommands> sender;
 
 	/**
 	 * Create a new G15Composer Wrapper.
@@ -51,33 +58,117 @@ public class G15ComposerWrapper extends G15Wrapper {
 		} catch (FileNotFoundException e) {
 			throw new G15NotFoundException("Unable to open socket to G15Composer");
 		}
+		sender = new G15FrameSender<G15ComposerCommands>("G15ComposerWrapper Output", new G15FrameSender.FrameOutput<G15ComposerCommands>() {
+			public G15ComposerCommands sendFrame(final G15ComposerCommands frame) throws IOException {
+				return sendToComposer(frame);
+			}
+			
+			public G15ComposerCommands mergeFrames(final G15ComposerCommands older, final G15ComposerCommands newer) {
+				// Instructions only draw changes, so none of them can be dropped.
+				older.append(newer);
+				return older;
+			}
+		});
 	}
 
 	/**
-	 * Convert a boolean into an int
+	 * Check if a batch of instructions can be skipped.
+	 * This is the case if they are the same as the last instructions sent and
+	 * none of them depend on what is already on the screen (such as reversing
+	 * pixels), as sending them again would give the same screen.
+	 *
+	 * @param frame Instructions to check
+	 * @return true if sending the instructions would not change anything.
+	 */
+	private boolean isRepeatFrame(final G15ComposerCommands frame) {
+		if (frame.isEmpty()) { return true; }
+		return !frame.readsScreen() && frame.sameCommands(lastInstructions);
+	}
+	
+	/**
+	 * Send a batch of instructions to the composer, unless they would not
+	 * change anything.
+	 * The whole frame is sent with a single write to the pipe.
+	 * This is called from the sender thread.
 	 *
-	 * @param bool Boolean to convert
-	 * @return 0 for false, 1 for true.
+	 * @param frame Instructions to send
+	 * @return Instructions that are no longer needed
+	 * @throws IOException If the instructions could not be sent
 	 */
-	private int convertBoolean(boolean bool) {
-		if (bool == true) {
-			return 1;
+	private G15ComposerCommands sendToComposer(final G15ComposerCommands frame) throws IOException {
+		if (isRepeatFrame(frame)) {
+			frameSuppressed();
+			return frame;
+		}
+		synchronized (outputLock) {
+			frame.writeTo(myOutput);
+			myOutput.flush();
+		}
+		frameSent();
+		final G15ComposerCommands oldFrame = lastInstructions;
+		lastInstructions = frame;
+		return oldFrame;
+	}
+	
+	/**
+	 * Send the current frame to the screen.
+	 * The instructions are sent by the sender thread, so this does not wait for
+	 * the composer. Nothing is sent if the instructions would not change the
+	 * screen.
+	 *
+	 * @throws java.io.IOException Throws this if sending previous instructions failed
+	 */
+	protected void sendFrame() throws IOException {
+		sender.post(instructions);
+		instructions = sender.obtain();
+		if (instructions == null) {
+			instructions = new G15ComposerCommands();
 		} else {
-			return 0;
+			instructions.clear();
+		}
+		final IOException error = sender.getError();
+		if (error != null) { throw error; }
+	}
+	
+	/**
+	 * Wait until everything passed to draw() has been sent to the composer.
+	 */
+	public void flush() {
+		sender.flush(1000);
+	}
+	
+	/**
+	 * Stop the sender thread and close the pipe to the composer.
+	 * Instructions that have not been sent yet are discarded.
+	 */
+	public void close() {
+		sender.close();
+		synchronized (outputLock) {
+			try {
+				myOutput.close();
+			} catch (IOException e) { }
 		}
 	}
 	
 	/**
-	 * Draw to the screen
+	 * Send a control command (such as setting the LEDs) to the composer now.
+	 * These do not change the screen, so they are written straight to the pipe
+	 * rather than going through the sender, holding the same lock as frames so
+	 * the two never interleave.
 	 *
-	 * @throws java.io.IOException Throws this if the socket is not able to be written to
+	 * @param command Command to send
+	 * @return true if the command was sent, else false.
 	 */
-	public void draw() throws IOException {
-		for (String line: instructions) {
-			myOutput.write((line + "\n").getBytes());
+	private boolean sendControl(final G15ComposerCommands command) {
+		synchronized (outputLock) {
+			try {
+				command.writeTo(myOutput);
+				myOutput.flush();
+			} catch (IOException e) {
+				return false;
+			}
 		}
-		myOutput.flush();
-		instructions.clear();
+		return true;
 	}
 	
 	/**
@@ -101,27 +192,20 @@ public class G15ComposerWrapper extends G15Wrapper {
 	 * @param text String[] of lines to draw
 	 */
 	public void drawText(FontSize size, String[] text) {
-		StringBuilder builder = new StringBuilder();
-		for (String line: text) {
-			builder.append(" \"" + line.replaceAll("\"", "\\\"") + "\"");
-		}
-		instructions.add('T' + size.getCharValue() + builder.toString());
+		instructions.start("T" + size.getCharValue()).add(text).end();
 	}
 
 	/**
 	 * Draw a line of text to a specific position.
 	 *
 	 * @param size FontSize of text to draw.
-	 * @param point Location to draw text
+	 * @param x X of location to draw text
+	 * @param y Y of location to draw text
 	 * @param position G15Position to draw text (left, right, center)
 	 * @param text String[] of lines to draw
 	 */
-	public void drawText(FontSize size, Point point, G15Position position, String[] text) {
-		StringBuilder builder = new StringBuilder();
-		for (String line: text) {
-			builder.append(" \"" + line.replaceAll("\"", "\\\"") + "\"");
-		}
-		instructions.add("TO " + (int)point.getX() + ' ' + (int)point.getY() + ' ' + size.getIntValue() + ' ' + position.getIntValue() + ' ' + builder.toString());
+	public void drawText(FontSize size, int x, int y, G15Position position, String[] text) {
+		instructions.start("TO").add(x).add(y).add(size.getIntValue()).add(position.getIntValue()).add(text).end();
 	}
 	
 	/**
@@ -131,19 +215,20 @@ public class G15ComposerWrapper extends G15Wrapper {
 	 * @param text line to draw
 	 */
 	public void drawText(FontSize size, String text) {
-		instructions.add('T' + size.getCharValue() + '"' + text.replaceAll("\"", "\\\"") + '"');
+		instructions.start("T" + size.getCharValue()).add(text).end();
 	}
 
 	/**
 	 * Draw a line of text to a specific position.
 	 *
 	 * @param size FontSize of text to draw.
-	 * @param point Location to draw text
+	 * @param x X of location to draw text
+	 * @param y Y of location to draw text
 	 * @param position G15Position to draw text (left, right, center)
 	 * @param text line to draw
 	 */
-	public void drawText(FontSize size, Point point, G15Position position, String text) {
-		instructions.add("TO " + (int)point.getX() + ' ' + (int)point.getY() + ' ' + size.getIntValue() + ' ' + position.getIntValue() + ' ' + '"' + text.replaceAll("\"", "\\\"") + '"');
+	public void drawText(FontSize size, int x, int y, G15Position position, String text) {
+		instructions.start("TO").add(x).add(y).add(size.getIntValue()).add(position.getIntValue()).add(text).end();
 	}
 
 	/**
@@ -154,7 +239,7 @@ public class G15ComposerWrapper extends G15Wrapper {
 	 * @param pathToFont Path to font file
 	 */
 	public void loadFont(int fontSlot, int size, String pathToFont) {
-		instructions.add("FL " + fontSlot + ' ' + size + " \"" + pathToFont + "\"");
+		instructions.start("FL").add(fontSlot).add(size).add(pathToFont).end();
 	}
 
 	/**
@@ -162,13 +247,14 @@ public class G15ComposerWrapper extends G15Wrapper {
 	 *
 	 * @param fontSlot Font slot for font
 	 * @param size size of font
-	 * @param point location to draw text at
+	 * @param x X of location to draw text at
+	 * @param y Y of location to draw text at
 	 * @param isBlack True for bacl text, false for white
 	 * @param position Position for text
 	 * @param text Text to output
 	 */
-	public void drawFont(int fontSlot, int size, Point point, boolean isBlack, G15Position position, String text) {
-		instructions.add("FP " + fontSlot + ' ' + size + ' ' + (int)point.getX() + ' ' + (int)point.getY() + ' ' + convertBoolean(isBlack) + ' ' + position.getIntValue() + ' ' + '"' + text.replaceAll("\"", "\\\"") + '"');
+	public void drawFont(int fontSlot, int size, int x, int y, boolean isBlack, G15Position position, String text) {
+		instructions.start("FP").add(fontSlot).add(size).add(x).add(y).add(isBlack).add(position.getIntValue()).add(text).end();
 	}
 
 	/**
@@ -176,49 +262,49 @@ public class G15ComposerWrapper extends G15Wrapper {
 	 *
 	 * @param fontSlot Font slot for font
 	 * @param size size of font
-	 * @param point location to draw text at
+	 * @param x X of location to draw text at
+	 * @param y Y of location to draw text at
 	 * @param isBlack True for bacl text, false for white
 	 * @param position Position for text
 	 * @param text Text to output
 	 */
-	public void drawFont(int fontSlot, int size, Point point, boolean isBlack, G15Position position, String[] text) {
-		StringBuilder builder = new StringBuilder();
-		for (String line: text) {
-			builder.append(" \"" + line.replaceAll("\"", "\\\"") + "\"");
-		}
-		instructions.add("FP " + fontSlot + ' ' + size + ' ' + (int)point.getX() + ' ' + (int)point.getY() + ' ' + convertBoolean(isBlack) + ' ' + position.getIntValue() + ' ' + builder.toString());
+	public void drawFont(int fontSlot, int size, int x, int y, boolean isBlack, G15Position position, String[] text) {
+		instructions.start("FP").add(fontSlot).add(size).add(x).add(y).add(isBlack).add(position.getIntValue()).add(text).end();
 	}
 
 	/**
 	 * Draws a pixel image of the given Width and Height at the given point
 	 *
-	 * @param point Location to draw image
+	 * @param x X of location to draw image
+	 * @param y Y of location to draw image
 	 * @param width Width of image
 	 * @param height height of image
 	 * @param pixels String containing image as a string of 0's and 1's (0 = white, 1 = black)
 	 */
-	public void drawPixels(Point point, int width, int height, String pixels) {
-		instructions.add("PO " + (int)point.getX() + ' ' + (int)point.getY() + ' ' + width + ' ' + height + " \"" + pixels + '"');
+	public void drawPixels(int x, int y, int width, int height, String pixels) {
+		instructions.start("PO").add(x).add(y).add(width).add(height).add(pixels).end();
 	}
 	
 	/**
 	 * Draws a pixel image of the given PixelImage
 	 *
-	 * @param point Location to draw image
+	 * @param x X of location to draw image
+	 * @param y Y of location to draw image
 	 * @param PixelImage PixelImage to draw.
 	 */
-	public void drawPixels(Point point, PixelImage image) {
-		drawPixels(point, image.width(), image.height(), image.toString());
+	public void drawPixels(int x, int y, PixelImage image) {
+		drawPixels(x, y, image.width(), image.height(), image.toString());
 	}
 
 	/**
 	 * Set the colour of the pixel at a given point
 	 *
-	 * @param point Point to set pixel at
+	 * @param x X of point to set pixel at
+	 * @param y Y of point to set pixel at
 	 * @param isBlack True to set to black, false to set to white
 	 */
-	public void setPixelColour(Point point, boolean isBlack) {
-		instructions.add("PS " + (int)point.getX() + ' ' + (int)point.getY() + ' ' + convertBoolean(isBlack));
+	public void setPixelColour(int x, int y, boolean isBlack) {
+		instructions.start("PS").add(x).add(y).add(isBlack).end();
 	}
 
 	/**
@@ -227,89 +313,103 @@ public class G15ComposerWrapper extends G15Wrapper {
 	 * @param isBlack True to set to black, false to set to white
 	 */
 	public void clearScreen(boolean isBlack) {
-		instructions.add("PC " + convertBoolean(isBlack));
+		instructions.start("PC").add(isBlack).end();
 	}
 
 	/**
 	 * Fill a specified area in either white or black
 	 *
-	 * @param point1 Point to start at for area
-	 * @param point2 Point to finish at for area
+	 * @param x1 X of point to start at for area
+	 * @param y1 Y of point to start at for area
+	 * @param x2 X of point to finish at for area
+	 * @param y2 Y of point to finish at for area
 	 * @param isBlack True to set to black, false to set to white
 	 */
-	public void fillArea(Point point1, Point point2, boolean isBlack) {
-		instructions.add("PF " + (int)point1.getX() + ' ' + (int)point1.getY() + ' ' + (int)point2.getX() + ' ' + (int)point2.getY() + ' ' + convertBoolean(isBlack));
+	public void fillArea(int x1, int y1, int x2, int y2, boolean isBlack) {
+		instructions.start("PF").add(x1).add(y1).add(x2).add(y2).add(isBlack).end();
 	}
 
 	/**
 	 * Reverse all the pixels in a specific area
 	 *
-	 * @param point1 Point to start at for area
-	 * @param point2 Point to finish at for area
+	 * @param x1 X of point to start at for area
+	 * @param y1 Y of point to start at for area
+	 * @param x2 X of point to finish at for area
+	 * @param y2 Y of point to finish at for area
 	 */
-	public void reversePixels(Point point1, Point point2) {
-		instructions.add("PR " + (int)point1.getX() + ' ' + (int)point1.getY() + ' ' + (int)point2.getX() + ' ' + (int)point2.getY());
+	public void reversePixels(int x1, int y1, int x2, int y2) {
+		instructions.start("PR").add(x1).add(y1).add(x2).add(y2).end();
+		instructions.setReadsScreen();
 	}
 
 	/**
 	 * Draw a box
 	 *
-	 * @param point1 Point to start at for area
-	 * @param point2 Point to finish at for area
+	 * @param x1 X of point to start at for area
+	 * @param y1 Y of point to start at for area
+	 * @param x2 X of point to finish at for area
+	 * @param y2 Y of point to finish at for area
 	 * @param isBlack True to set to black, false to set to white
 	 * @param thickness Thickness of line
 	 */
-	public void drawBox(Point point1, Point point2, boolean isBlack, int thickness) {
-		instructions.add("PB " + (int)point1.getX() + ' ' + (int)point1.getY() + ' ' + (int)point2.getX() + ' ' + (int)point2.getY() + ' ' + convertBoolean(isBlack) + ' ' + thickness + " 0");
+	public void drawBox(int x1, int y1, int x2, int y2, boolean isBlack, int thickness) {
+		instructions.start("PB").add(x1).add(y1).add(x2).add(y2).add(isBlack).add(thickness).add(0).end();
 	}
 
 	/**
 	 * Draw a line
 	 *
-	 * @param point1 Point to start at for line
-	 * @param point2 Point to finish at for line
+	 * @param x1 X of point to start at for line
+	 * @param y1 Y of point to start at for line
+	 * @param x2 X of point to finish at for line
+	 * @param y2 Y of point to finish at for line
 	 * @param isBlack True to set to black, false to set to white
 	 */
-	public void drawLine(Point point1, Point point2, boolean isBlack) {
-		instructions.add("DL " + (int)point1.getX() + ' ' + (int)point1.getY() + ' ' + (int)point2.getX() + ' ' + (int)point2.getY() + ' ' + convertBoolean(isBlack));
+	public void drawLine(int x1, int y1, int x2, int y2, boolean isBlack) {
+		instructions.start("DL").add(x1).add(y1).add(x2).add(y2).add(isBlack).end();
 	}
 
 	/**
 	 * Draw a circle
 	 *
-	 * @param center Center Point
+	 * @param x X of center point
+	 * @param y Y of center point
 	 * @param radius Radius of circle
 	 * @param isBlack True to set to black, false to set to white
 	 * @param filled Is the circle filled or not
 	 */
-	public void drawCircle(Point center, int radius, boolean isBlack, boolean filled) {
-		instructions.add("DC " + (int)center.getX() + ' ' + (int)center.getY() + ' ' + radius + ' ' + convertBoolean(isBlack) + ' ' + convertBoolean(filled));
+	public void drawCircle(int x, int y, int radius, boolean isBlack, boolean filled) {
+		instructions.start("DC").add(x).add(y).add(radius).add(isBlack).add(filled).end();
 	}
 
 	/**
 	 * Draw a rounded box
 	 *
-	 * @param point1 Point to start at for area
-	 * @param point2 Point to finish at for area
+	 * @param x1 X of point to start at for area
+	 * @param y1 Y of point to start at for area
+	 * @param x2 X of point to finish at for area
+	 * @param y2 Y of point to finish at for area
 	 * @param isBlack True to set to black, false to set to white
 	 * @param filled Is the box filled or not
 	 */
-	public void drawRoundedBox(Point point1, Point point2, boolean isBlack, boolean filled) {
-		instructions.add("DR " + (int)point1.getX() + ' ' + (int)point1.getY() + ' ' + (int)point2.getX() + ' ' + (int)point2.getY() + ' ' + convertBoolean(isBlack) + ' ' + convertBoolean(filled));
+	public void drawRoundedBox(int x1, int y1, int x2, int y2, boolean isBlack, boolean filled) {
+		instructions.start("DR").add(x1).add(y1).add(x2).add(y2).add(isBlack).add(filled).end();
 	}
 
 	/**
 	 * Draw a progress bar
 	 *
-	 * @param point1 Point to start at
-	 * @param point2 point to finish at
+	 * @param x1 X of point to start at
+	 * @param y1 Y of point to start at
+	 * @param x2 X of point to finish at
+	 * @param y2 Y of point to finish at
 	 * @param isBlack True to set to black, false to set to white
 	 * @param position Position of the bar
 	 * @param maxPosition Max Position of the bar
 	 * @param barType Type of progress bar
 	 */
-	public void drawProgressBar(Point point1, Point point2, boolean isBlack, int position, int maxPosition, ProgressBarType barType) {
-		instructions.add("DB " + (int)point1.getX() + ' ' + (int)point1.getY() + ' ' + (int)point2.getX() + ' ' + (int)point2.getY() + ' ' + convertBoolean(isBlack) + ' ' + position + ' ' + maxPosition + ' ' + barType.getIntValue());
+	public void drawProgressBar(int x1, int y1, int x2, int y2, boolean isBlack, int position, int maxPosition, ProgressBarType barType) {
+		instructions.start("DB").add(x1).add(y1).add(x2).add(y2).add(isBlack).add(position).add(maxPosition).add(barType.getIntValue()).end();
 	}
 
 	/**
@@ -319,7 +419,7 @@ public class G15ComposerWrapper extends G15Wrapper {
 	 * @param value Value to set mode to
 	 */
 	public void sendMode(char type, int value) {
-		instructions.add("M" + type + ' ' + value);
+		instructions.start("M" + type).add(value).end();
 	}
 	
 	/**
@@ -329,15 +429,9 @@ public class G15ComposerWrapper extends G15Wrapper {
 	 * @param setOn true to turn on, false to turn off.
 	 */
 	public boolean setMXLight(int light, boolean setOn) {
-		final String line = "KM " + light + ' ' + convertBoolean(setOn);
-		
-		try {
-			myOutput.write((line + "\n").getBytes());
-			myOutput.flush();
-		} catch (IOException e) {
-			return false;
-		}
-		return true;
+		final G15ComposerCommands command = new G15ComposerCommands();
+		command.start("KM").add(light).add(setOn).end();
+		return sendControl(command);
 	}
 	
 	/**
@@ -346,15 +440,9 @@ public class G15ComposerWrapper extends G15Wrapper {
 	 * @param level Contrast level, (0 1 or 2)
 	 */
 	public boolean setContrastLevel(int level) {
-		final String line = "LC " + level;
-		
-		try {
-			myOutput.write((line + "\n").getBytes());
-			myOutput.flush();
-		} catch (IOException e) {
-			return false;
-		}
-		return true;
+		final G15ComposerCommands command = new G15ComposerCommands();
+		command.start("LC").add(level).end();
+		return sendControl(command);
 	}
 	
 	/**
@@ -363,15 +451,9 @@ public class G15ComposerWrapper extends G15Wrapper {
 	 * @param level Brightness level, (0 1 or 2)
 	 */
 	public boolean setBrightnessLevel(int level) {
-		final String line = "LB " + level;
-		
-		try {
-			myOutput.write((line + "\n").getBytes());
-			myOutput.flush();
-		} catch (IOException e) {
-			return false;
-		}
-		return true;
+		final G15ComposerCommands command = new G15ComposerCommands();
+		command.start("LB").add(level).end();
+		return sendControl(command);
 	}
 
 	/**
@@ -380,6 +462,6 @@ public class G15ComposerWrapper extends G15Wrapper {
 	 * @param position Position of screen
 	 */
 	public void screenPosition(G15ScreenPosition position) {
-		instructions.add("MP " + position.getIntValue());
+		instructions.start("MP").add(position.getIntValue()).end();
 	}
 }
\ No newline at end of file
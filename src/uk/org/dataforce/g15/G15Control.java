@@ -23,13 +23,14 @@
  */
 package uk.org.dataforce.g15;
 
-import java.awt.Point;
 import java.io.File;
 import java.io.IOException;
 import java.io.BufferedWriter;
 import java.io.PrintWriter;
 import java.io.FileWriter;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Timer;
 import java.util.Date;
 import java.text.DateFormat;
@@ -44,6 +45,10 @@ import uk.org.dataforce.g15.plugins.PluginManager;
 import uk.org.dataforce.g15.process.ProcessDetails;
 import uk.org.dataforce.g15.process.ProcessHandler;
 
+import uk.org.dataforce.g15.widgets.G15Clock;
+import uk.org.dataforce.g15.widgets.G15Display;
+import uk.org.dataforce.g15.widgets.G15Label;
+
 /**
  * Application to control G15 LCD.
  */
@@ -57,6 +62,13 @@ public class G15Control {
 	private G15Wrapper myScreen;
 	/** Screen used for the LoadingComposer screen. */
 	private G15Wrapper loadingScreen;
+	/**
+	 * Offscreen surface of each plugin, by plugin filename.
+	 * These are only used when the main screen is a G15BufferedWrapper, the
+	 * surface of the current plugin is copied to the main screen each time the
+	 * plugin draws.
+	 */
+	private final Map<String, G15OffscreenWrapper> pluginScreens = new HashMap<String, G15OffscreenWrapper>();
 	
 	/** List of all plugin class names. */
 	private ArrayList<String> allScreens = new ArrayList<String>();
@@ -78,6 +90,10 @@ public class G15Control {
 	private Timer drawTimer = new Timer();
 	/** Is it time to draw? */
 	private boolean drawTime;
+	/** Time in milliseconds between animation frames (such as marquees). */
+	private static final int ANIMATION_INTERVAL = 40;
+	/** Is it time to move the animations? */
+	private boolean animateTime;
 	
 	/** Title of this screen. */
 	private String screenTitle = "G15Control";
@@ -85,6 +101,13 @@ public class G15Control {
 	/** Default Title of screens. */
 	private String defaultScreenTitle = null;
 	
+	/** Widgets in the title bar, so only what changes is redrawn. */
+	private final G15Display titleBar = new G15Display();
+	/** Title shown in the title bar. */
+	private final G15Label titleLabel = titleBar.add(new G15Label(3, 1, 120, 7, FontSize.SMALL, 4, 2, G15Position.LEFT));
+	/** Clock shown in the title bar. */
+	private final G15Clock clock = titleBar.add(new G15Clock(125, 1, 156, 7, FontSize.SMALL, 126, 2, G15Position.LEFT));
+	
 	/** G15Composer ProcessID. */
 	String composerProcess;
 	/** Location used when we spawn our own G15Composer. */
@@ -160,6 +183,8 @@ public class G15Control {
 				out.println("	<!-- Use /tmp/composer pipe: <composer>/tmp/composer</composer> -->");
 				out.println("	<!-- Use G15Daemon: <composer/> or omit this parameter entirely -->");
 				out.println("	<composer />");
+				out.println("	<!-- Format used to send the screen to G15Daemon, gbuf (default) or wbmp (packed) -->");
+				out.println("	<bufferformat>gbuf</bufferformat>");
 				out.println("	<!-- This is the 'M' button to enable by default -->");
 				out.println("	<defaultmbutton>1</defaultmbutton>");
 				out.println("</g15control>");
@@ -172,15 +197,41 @@ public class G15Control {
 		configFile = new XMLParser(configDirname+configFilename);
 		G15DaemonWrapper.debug = (configFile.findElement("debug") != null);
 		G15DaemonWrapper.isWIP = (configFile.findElement("wip") != null);
+		G15DaemonWrapper.bufferFormat = G15BufferFormat.fromConfigName(configFile.getValue(configFile.findElement("bufferformat")));
+		try {
+			G15BufferedWrapper.textCacheSize = Integer.parseInt(configFile.getAttribute(configFile.findElement("textcache"), "size"));
+		} catch (NumberFormatException nfe) {
+			G15BufferedWrapper.textCacheSize = 128;
+		}
+		if (configFile.findElement("daemon") != null) {
+			final String daemonHost = configFile.getAttribute(configFile.findElement("daemon"), "host");
+			if (daemonHost != null) { G15DaemonWrapper.daemonHost = daemonHost; }
+			try {
+				G15DaemonWrapper.daemonPort = Integer.parseInt(configFile.getAttribute(configFile.findElement("daemon"), "port"));
+			} catch (NumberFormatException nfe) {
+				G15DaemonWrapper.daemonPort = 15550;
+			}
+		}
 		try {
 			G15DaemonWrapper.debugScale = Integer.parseInt(configFile.getAttribute(configFile.findElement("debug"), "scale"));
 		} catch (NumberFormatException nfe) {
 			G15DaemonWrapper.debugScale = 4;
 		}
 		boolean needRemoteSocket = false;
-		if (System.getProperty("os.name").startsWith("Windows") && !G15DaemonWrapper.debug) {
+		final boolean offscreen = (configFile.findElement("offscreen") != null);
+		if (System.getProperty("os.name").startsWith("Windows") && !G15DaemonWrapper.debug && !offscreen) {
 			System.out.println("Sorry, this application does not yet run on this OS.");
 			System.exit(0);
+		} else if (offscreen) {
+			needRemoteSocket = (configFile.findElement("remotesocket") != null);
+			final String offscreenFile = configFile.getAttribute(configFile.findElement("offscreen"), "file");
+			if (offscreenFile == null) {
+				System.out.println("Drawing offscreen.");
+				myScreen = new G15OffscreenWrapper();
+			} else {
+				System.out.println("Drawing offscreen to "+offscreenFile);
+				myScreen = new G15OffscreenWrapper(new G15OffscreenWrapper.PBMFileSink(offscreenFile));
+			}
 		} else {
 			needRemoteSocket = (configFile.findElement("remotesocket") != null);
 			String composerLocation = configFile.getValue(configFile.findElement("composer"));
@@ -232,6 +283,7 @@ public class G15Control {
 			exitApp();
 		}
 		drawTimer.schedule(new DrawTimer(this), 0, 500);
+		drawTimer.schedule(new AnimationTimer(this), ANIMATION_INTERVAL, ANIMATION_INTERVAL);
 		
 		myScreen.setMXLight(0, false);
 		String defaultMButton = configFile.getValue(configFile.findElement("defaultmbutton"));
@@ -244,8 +296,29 @@ public class G15Control {
 		drawMe(true);
 		
 		while (true) {
-			if (gotCommand) { processCommand(); }
-			if (drawTime) { doRedraw(); }
+			// Each command and redraw is a single frame transaction, so that only
+			// complete frames are shown. (The screen is kept in a local as both
+			// can replace myScreen.)
+			if (gotCommand) {
+				final G15Wrapper screen = myScreen;
+				screen.beginFrame();
+				processCommand();
+				screen.commitFrame();
+			}
+			if (drawTime) {
+				final G15Wrapper screen = myScreen;
+				screen.beginFrame();
+				doRedraw();
+				screen.commitFrame();
+			}
+			if (animateTime) {
+				// Only sends a frame if something actually moved.
+				animateTime = false;
+				final G15Wrapper screen = myScreen;
+				screen.beginFrame();
+				getActiveScreen().animate();
+				screen.commitFrame();
+			}
 			try { Thread.sleep(1); } catch (InterruptedException e) { }
 		}
 	}
@@ -261,6 +334,8 @@ public class G15Control {
 			System.exit(0);
 		} else if (!composerApp.equals("")) {
 			System.out.println("Creating g15composer..");
+			// Stop the old screen's sender thread and close its pipe.
+			if (myScreen != null) { myScreen.close(); }
 			if (myComposerLocation != "") {
 				File f = new File(myComposerLocation);
 				if (f.exists()) {
@@ -292,7 +367,7 @@ public class G15Control {
 	 */
 	private void drawMe(boolean isFirst) {
 		myScreen.clearScreen(false);
-		myScreen.drawRoundedBox(myScreen.getTopLeftPoint(), myScreen.getBottomRightPoint(), true, false);
+		myScreen.drawRoundedBox(0, 0, myScreen.getWidth()-1, myScreen.getHeight()-1, true, false);
 		
 //		screenTitle = configFile.getValue(configFile.findElement("welcometext"));
 		if (screenTitle == null) { screenTitle = "G15Control"; }
@@ -305,7 +380,7 @@ public class G15Control {
 			
 			drawMainText(screenTitle);
 			drawSplashText("Loading.."); // Redrawn beacue drawMainText overlaps it with its fillarea.
-			myScreen.drawText(FontSize.SMALL, new Point(70, 28), G15Position.CENTER, new String[]{"Copyright (C) 2007-2008", "Shane 'Dataforce' Mc Cormack"});
+			myScreen.drawText(FontSize.SMALL, 70, 28, G15Position.CENTER, new String[]{"Copyright (C) 2007-2008", "Shane 'Dataforce' Mc Cormack"});
 			myScreen.silentDraw();
 			loadAllPlugins();
 			drawSplashText("Loading..");
@@ -318,9 +393,10 @@ public class G15Control {
 			}
 		}
 		if (currentPlugin == null) {
-			myScreen.drawLine(new Point(124, 0), new Point(124, 8), true);
-			myScreen.drawLine(new Point(0, 8), new Point(myScreen.getWidth(), 8), true);
-			myScreen.fillArea(new Point(1,9), new Point(158, 33), false);
+			titleBar.invalidate();
+			myScreen.drawLine(124, 0, 124, 8, true);
+			myScreen.drawLine(0, 8, myScreen.getWidth(), 8, true);
+			myScreen.fillArea(1, 9, 158, 33, false);
 			drawMenu(true);
 		}
 	}
@@ -443,9 +519,16 @@ public class G15Control {
 		drawTime = true;
 	}
 	
+	/** Animation timer task executed. */
+	public void animationTimerTask() {
+		animateTime = true;
+	}
+	
 	/** Redraw the screen. */
 	private void doRedraw() {
 		drawTime = false;
+		// Anything still animated is drawn again by the redraw.
+		getActiveScreen().stopMarquees();
 		
 		if (composerProcess != null) {
 			if (ProcessHandler.getProcess(composerProcess) == null) {
@@ -470,10 +553,9 @@ public class G15Control {
 				drawMainText("");
 				drawMenu(true);
 			}
-			DateFormat dateFormat = new SimpleDateFormat("HH:mm:ss");
-			myScreen.drawText(FontSize.SMALL, new Point(126, 2), G15Position.LEFT, dateFormat.format(new Date()));
-			myScreen.fillArea(new Point(3,1), new Point(121, 7), false);
-			myScreen.drawText(FontSize.SMALL, new Point(4, 2), G15Position.LEFT, screenTitle);
+			clock.update();
+			titleLabel.setText(screenTitle);
+			titleBar.render(myScreen);
 			myScreen.silentDraw();
 		}
 		if (screenPriority > 0) { screenPriority--; }
@@ -486,19 +568,19 @@ public class G15Control {
 	 */
 	private void drawMenu(boolean drawNow) {
 		if (currentPlugin == null) {
-			myScreen.fillArea(new Point(3,35), new Point(myScreen.getWidth()-3, 41), false);
-			myScreen.drawLine(new Point(0,34), new Point(myScreen.getWidth(), 34), true);
-			myScreen.drawText(FontSize.SMALL, new Point(11, 36), G15Position.LEFT, menuButtons[0]);
-			myScreen.drawText(FontSize.SMALL, new Point(42, 36), G15Position.LEFT, menuButtons[1]);
+			myScreen.fillArea(3, 35, myScreen.getWidth()-3, 41, false);
+			myScreen.drawLine(0, 34, myScreen.getWidth(), 34, true);
+			myScreen.drawText(FontSize.SMALL, 11, 36, G15Position.LEFT, menuButtons[0]);
+			myScreen.drawText(FontSize.SMALL, 42, 36, G15Position.LEFT, menuButtons[1]);
 			if (!isMenu) {
-				myScreen.drawText(FontSize.SMALL, new Point(70, 36), G15Position.CENTER, menuButtons[2]);
+				myScreen.drawText(FontSize.SMALL, 70, 36, G15Position.CENTER, menuButtons[2]);
 			} else {
 				if (myMenu == null) { createMenu(); }
-				myScreen.drawText(FontSize.SMALL, new Point(70, 36), G15Position.CENTER, "["+myMenu.getItemNumber()+'/'+myMenu.count()+"]");
+				myScreen.drawText(FontSize.SMALL, 70, 36, G15Position.CENTER, "["+myMenu.getItemNumber()+'/'+myMenu.count()+"]");
 			}
 		
-			myScreen.drawText(FontSize.SMALL, new Point(110, 36), G15Position.LEFT, menuButtons[3]);
-			myScreen.drawText(FontSize.SMALL, new Point(135, 36), G15Position.LEFT, menuButtons[4]);
+			myScreen.drawText(FontSize.SMALL, 110, 36, G15Position.LEFT, menuButtons[3]);
+			myScreen.drawText(FontSize.SMALL, 135, 36, G15Position.LEFT, menuButtons[4]);
 			if (isMenu) {
 				if (myMenu == null) { createMenu(); }
 				screenTitle = "Menu :: "+myMenu;
@@ -518,8 +600,8 @@ public class G15Control {
 	private void drawStatusText(String text) {
 		if (currentPlugin == null) {
 			drawMenu(true);
-			myScreen.drawText(FontSize.SMALL, new Point(70, 36), G15Position.RIGHT, text+" ");
-			myScreen.drawRoundedBox(myScreen.getTopLeftPoint(), myScreen.getBottomRightPoint(), true, false);
+			myScreen.drawText(FontSize.SMALL, 70, 36, G15Position.RIGHT, text+" ");
+			myScreen.drawRoundedBox(0, 0, myScreen.getWidth()-1, myScreen.getHeight()-1, true, false);
 			myScreen.silentDraw();
 		}
 	}
@@ -532,8 +614,8 @@ public class G15Control {
 	 */
 	private void drawMainText(String text) {
 		if (currentPlugin == null) {
-			myScreen.fillArea(new Point(1,9), new Point(158, 33), false);
-			myScreen.drawText(FontSize.LARGE, new Point(0, (myScreen.getHeight()/2)-3), G15Position.CENTER, text);
+			myScreen.fillArea(1, 9, 158, 33, false);
+			myScreen.drawText(FontSize.LARGE, 0, (myScreen.getHeight()/2)-3, G15Position.CENTER, text);
 		}
 	}
 	
@@ -545,8 +627,8 @@ public class G15Control {
 	 */
 	private void drawMediumMainText(String text) {
 		if (currentPlugin == null) {
-			myScreen.fillArea(new Point(1,9), new Point(158, 33), false);
-			myScreen.drawText(FontSize.MEDIUM, new Point(0, (myScreen.getHeight()/2)-3), G15Position.CENTER, text);
+			myScreen.fillArea(1, 9, 158, 33, false);
+			myScreen.drawText(FontSize.MEDIUM, 0, (myScreen.getHeight()/2)-3, G15Position.CENTER, text);
 		}
 	}	
 	
@@ -558,8 +640,8 @@ public class G15Control {
 	 */
 	private void drawSmallMainText(String text) {
 		if (currentPlugin == null) {
-			myScreen.fillArea(new Point(1,9), new Point(158, 33), false);
-			myScreen.drawText(FontSize.SMALL, new Point(0, (myScreen.getHeight()/2)-3), G15Position.CENTER, text);
+			myScreen.fillArea(1, 9, 158, 33, false);
+			myScreen.drawText(FontSize.SMALL, 0, (myScreen.getHeight()/2)-3, G15Position.CENTER, text);
 		}
 	}	
 	
@@ -570,8 +652,8 @@ public class G15Control {
 	 */
 	private void drawSplashText(String text) {
 		if (isSplash) {
-			myScreen.fillArea(new Point(3,3), new Point(156, 12), false);
-			myScreen.drawText(FontSize.SMALL, new Point(70, 5), G15Position.CENTER, text);
+			myScreen.fillArea(3, 3, 156, 12, false);
+			myScreen.drawText(FontSize.SMALL, 70, 5, G15Position.CENTER, text);
 			myScreen.silentDraw();
 		}
 	}
@@ -696,7 +778,8 @@ public class G15Control {
 						break;
 					}
 				}
-				myScreen.drawRoundedBox(myScreen.getTopLeftPoint(), myScreen.getBottomRightPoint(), true, false);
+				pluginScreens.remove(pluginName.toLowerCase());
+				myScreen.drawRoundedBox(0, 0, myScreen.getWidth()-1, myScreen.getHeight()-1, true, false);
 				
 			} else if (myMenu.getItemSubString().equals("RELOAD1")) {
 				myMenu = new G15ControlMenu("Reload Plugin");
@@ -716,7 +799,7 @@ public class G15Control {
 				clearMainCount = 6;
 				if (reloadState) {
 					drawStatusText("Plugin "+pluginNiceName+" reloaded");
-					pluginManager.getPluginInfo(pluginName).getPlugin().onLoad(this, myScreen);
+					pluginManager.getPluginInfo(pluginName).getPlugin().onLoad(this, getPluginScreen(pluginName));
 				} else {
 					drawStatusText("Plugin "+pluginNiceName+" failed to reload");
 					for (int i = 0; i < allScreens.size(); ++i) {
@@ -725,8 +808,9 @@ public class G15Control {
 							break;
 						}
 					}
+					pluginScreens.remove(pluginName.toLowerCase());
 				}
-				myScreen.drawRoundedBox(myScreen.getTopLeftPoint(), myScreen.getBottomRightPoint(), true, false);
+				myScreen.drawRoundedBox(0, 0, myScreen.getWidth()-1, myScreen.getHeight()-1, true, false);
 			} else if (myMenu.getItemSubString().equals("BACKTOMAIN")) {
 				myMenu = null;
 				createMenu();
@@ -746,12 +830,13 @@ public class G15Control {
 			DateFormat dateFormat = new SimpleDateFormat("HH:mm:ss");
 			
 			myScreen.clearScreen(false);
-			myScreen.drawRoundedBox(myScreen.getTopLeftPoint(), myScreen.getBottomRightPoint(), true, false);
+			myScreen.drawRoundedBox(0, 0, myScreen.getWidth()-1, myScreen.getHeight()-1, true, false);
 			if (defaultScreenTitle == null) { defaultScreenTitle = ""; }
 			drawMainText(defaultScreenTitle);
-			myScreen.drawText(FontSize.SMALL, new Point(70, 36), G15Position.CENTER, "Ended at: "+dateFormat.format(new Date()));
+			myScreen.drawText(FontSize.SMALL, 70, 36, G15Position.CENTER, "Ended at: "+dateFormat.format(new Date()));
 			myScreen.setMXLight(0, false);
 			myScreen.silentDraw();
+			myScreen.flush();
 		}
 		System.exit(1);
 	}
@@ -798,6 +883,7 @@ public class G15Control {
 			return;
 		}
 		if (currentPlugin != null) { currentPlugin.onDeactivate(); }
+		getActiveScreen().stopMarquees();
 		if (screenID > allScreens.size()-1) {
 			if (currentPlugin != null) { myScreen.clearScreen(false); }
 			currentPlugin = null;
@@ -805,14 +891,78 @@ public class G15Control {
 			doRedraw();
 			currentScreen = -1;
 		} else {
-			myScreen.clearScreen(false);
-			myScreen.silentDraw();
 			currentScreen = screenID;
 			currentPlugin = pluginManager.getPluginInfo(allScreens.get(screenID)).getPlugin();
+			final G15OffscreenWrapper pluginScreen = pluginScreens.get(allScreens.get(screenID).toLowerCase());
+			if (pluginScreen != null && pluginScreen.getFramesSent() > 0) {
+				// Show the last frame the plugin drew straight away, rather than
+				// waiting for it to redraw (which can be slow).
+				((G15BufferedWrapper)myScreen).drawFrame(pluginScreen.getLastFrame());
+				myScreen.silentDraw();
+				myScreen.flushFrame();
+				pluginScreen.clearScreen(false);
+			} else {
+				myScreen.clearScreen(false);
+				myScreen.silentDraw();
+			}
 			currentPlugin.onActivate();
 		}
 	}
 	
+	/**
+	 * Get the screen that the current plugin draws on.
+	 *
+	 * @return The offscreen surface of the current plugin if it has one, else
+	 *         the main screen.
+	 */
+	private G15Wrapper getActiveScreen() {
+		if (currentPlugin != null && currentScreen >= 0 && currentScreen < allScreens.size()) {
+			final G15Wrapper screen = pluginScreens.get(allScreens.get(currentScreen).toLowerCase());
+			if (screen != null) { return screen; }
+		}
+		return myScreen;
+	}
+	
+	/**
+	 * Get the screen to give to a plugin.
+	 * If the main screen is a G15BufferedWrapper, each plugin gets its own
+	 * offscreen surface, which is copied to the main screen whenever the
+	 * plugin draws while it is the current screen. Otherwise plugins draw on the
+	 * main screen directly.
+	 *
+	 * @param plugin Filename of the plugin
+	 * @return The screen for the plugin to draw on
+	 */
+	private G15Wrapper getPluginScreen(final String plugin) {
+		if (!(myScreen instanceof G15BufferedWrapper)) { return myScreen; }
+		G15OffscreenWrapper screen = pluginScreens.get(plugin.toLowerCase());
+		if (screen == null) {
+			screen = new G15OffscreenWrapper(new G15OffscreenWrapper.FrameSink() {
+				public void frameCommitted(final G15FrameBuffer frame, final long frameNumber) {
+					showPluginFrame(plugin, frame);
+				}
+			});
+			pluginScreens.put(plugin.toLowerCase(), screen);
+		}
+		return screen;
+	}
+	
+	/**
+	 * Called when a plugin draws on its offscreen surface.
+	 * If the plugin is the current screen, the frame is copied to the main
+	 * screen and drawn.
+	 *
+	 * @param plugin Filename of the plugin
+	 * @param frame Frame the plugin drew
+	 */
+	private void showPluginFrame(final String plugin, final G15FrameBuffer frame) {
+		if (currentPlugin == null || currentScreen < 0 || currentScreen >= allScreens.size()) { return; }
+		if (allScreens.get(currentScreen).equalsIgnoreCase(plugin) && myScreen instanceof G15BufferedWrapper) {
+			((G15BufferedWrapper)myScreen).drawFrame(frame);
+			myScreen.silentDraw();
+		}
+	}
+	
 	/** 
 	 * Get the reference to the config file.
 	 *
@@ -829,7 +979,7 @@ public class G15Control {
 	private boolean loadPlugin(String plugin) {
 		if (pluginManager.addPlugin(plugin)) {
 			pluginManager.getPluginInfo(plugin).loadPlugin();
-			pluginManager.getPluginInfo(plugin).getPlugin().onLoad(this, myScreen);
+			pluginManager.getPluginInfo(plugin).getPlugin().onLoad(this, getPluginScreen(plugin));
 			allScreens.add(plugin);
 			return true;
 		} else {
@@ -863,33 +1013,36 @@ public class G15Control {
 			loadingScreen = new G15DaemonWrapper();
 		}
 		/* Not Needed anymore now that G15DaemonWrapper can do more than draw pixels
-		loadingScreen.drawPixels(loadingScreen.getTopLeftPoint(), PixelDrawings.getInfoConsoleBaseScreen());
-		loadingScreen.drawPixels(new Point(3, 11), PixelDrawings.getLoading());
-		loadingScreen.drawPixels(new Point(35, 11), PixelDrawings.getComposer());
-		loadingScreen.drawPixels(new Point(79, 11), PixelDrawings.getEllipsis()); */
+		loadingScreen.drawPixels(0, 0, PixelDrawings.getInfoConsoleBaseScreen());
+		loadingScreen.drawPixels(3, 11, PixelDrawings.getLoading());
+		loadingScreen.drawPixels(35, 11, PixelDrawings.getComposer());
+		loadingScreen.drawPixels(79, 11, PixelDrawings.getEllipsis()); */
 		
-		// Some Points
-		final Point almostTopLeft = new Point(loadingScreen.getTopLeftPoint().x+1, loadingScreen.getTopLeftPoint().y+1);
-		final Point almostBottomRight = new Point(loadingScreen.getBottomRightPoint().x-1, loadingScreen.getBottomRightPoint().y-1);
-		final Point textPoint = new Point(loadingScreen.getTopLeftPoint().x+4, loadingScreen.getTopLeftPoint().y+3);
+		// Some coordinates
+		final int left = 1;
+		final int top = 1;
+		final int right = loadingScreen.getWidth()-2;
+		final int bottom = loadingScreen.getHeight()-2;
+		final int textX = 4;
+		final int textY = 3;
 		
 		// Surrounding Box, including title space
-		loadingScreen.drawRoundedBox(almostTopLeft, almostBottomRight, true, false);
-		loadingScreen.drawLine(new Point(almostTopLeft.x, textPoint.y+6), new Point(almostBottomRight.x, textPoint.y+6), true);
+		loadingScreen.drawRoundedBox(left, top, right, bottom, true, false);
+		loadingScreen.drawLine(left, textY+6, right, textY+6, true);
 		
 		// Text
-		loadingScreen.drawText(FontSize.SMALL, textPoint, G15Position.LEFT, "[G15Control]");
+		loadingScreen.drawText(FontSize.SMALL, textX, textY, G15Position.LEFT, "[G15Control]");
 		if (showWarning) {
-			loadingScreen.drawText(FontSize.MEDIUM, new Point(3, 13), G15Position.CENTER, new String[]{"Not Loading G15Composer!"});
-			loadingScreen.drawText(FontSize.MEDIUM, new Point(3, 25), G15Position.CENTER, new String[]{"Please check the console for", "more information."});
+			loadingScreen.drawText(FontSize.MEDIUM, 3, 13, G15Position.CENTER, new String[]{"Not Loading G15Composer!"});
+			loadingScreen.drawText(FontSize.MEDIUM, 3, 25, G15Position.CENTER, new String[]{"Please check the console for", "more information."});
 		} else {
 			final String[] text = new String[]{"Loading G15Composer...", "(Note: Use of G15Composer is deprecated.)"};
-			loadingScreen.drawText(FontSize.MEDIUM, new Point(3, 11), G15Position.LEFT, text);
+			loadingScreen.drawText(FontSize.MEDIUM, 3, 11, G15Position.LEFT, text);
 		}
 		
 		
 		// Give it that console-y feel by making it white-on-black!
-		loadingScreen.reversePixels(myScreen.getTopLeftPoint(), myScreen.getBottomRightPoint());
+		loadingScreen.reversePixels(0, 0, myScreen.getWidth()-1, myScreen.getHeight()-1);
 		loadingScreen.silentDraw();
 	}
 	
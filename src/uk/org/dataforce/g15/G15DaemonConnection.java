@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2006-2008 Shane Mc Cormack
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SVN: $Id$
+ */
+package uk.org.dataforce.g15;
+
+import java.io.InputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Connection to a G15Daemon.
+ * Frames are encoded straight into a preallocated direct buffer and sent with
+ * a single write, so sending a frame does not allocate anything.
+ */
+public class G15DaemonConnection {
+	/** Channel connected to the daemon. */
+	private final SocketChannel channel;
+	/** Buffer used for outgoing frames. */
+	private final ByteBuffer frameBuffer;
+	/** Format used for outgoing frames. */
+	private final G15BufferFormat format;
+	/** Number of bytes sent. */
+	private long bytesSent = 0;
+	/** Number of frames sent. */
+	private long framesSent = 0;
+	
+	/**
+	 * Open a new connection to a G15Daemon.
+	 *
+	 * @param host Host the daemon is running on
+	 * @param port Port the daemon is listening on
+	 * @param format Format to send frames in
+	 * @throws IOException If the connection could not be opened
+	 */
+	public G15DaemonConnection(final String host, final int port, final G15BufferFormat format) throws IOException {
+		channel = SocketChannel.open(new InetSocketAddress(host, port));
+		channel.socket().setOOBInline(true);
+		channel.socket().setTcpNoDelay(true);
+		this.format = format;
+		frameBuffer = ByteBuffer.allocateDirect(format.getFrameSize());
+	}
+	
+	/**
+	 * Get the format used for outgoing frames.
+	 *
+	 * @return Format frames are sent in.
+	 */
+	public G15BufferFormat getFormat() {
+		return format;
+	}
+	
+	/**
+	 * Get an InputStream for reading from the daemon.
+	 *
+	 * @return InputStream for this connection.
+	 */
+	public InputStream getInputStream() {
+		return Channels.newInputStream(channel);
+	}
+	
+	/**
+	 * Send a string (such as the screen type) to the daemon.
+	 *
+	 * @param data String to send
+	 * @throws IOException If the string could not be sent
+	 */
+	public void sendString(final String data) throws IOException {
+		write(ByteBuffer.wrap(data.getBytes("US-ASCII")));
+	}
+	
+	/**
+	 * Send the screen type for our format to the daemon.
+	 * This needs to be done once, before the first frame is sent.
+	 *
+	 * @throws IOException If the screen type could not be sent
+	 */
+	public void sendScreenType() throws IOException {
+		sendString(format.getScreenType());
+	}
+	
+	/**
+	 * Send a frame to the daemon.
+	 *
+	 * @param frame Frame to send
+	 * @throws IOException If the frame could not be sent
+	 */
+	public synchronized void sendFrame(final G15FrameBuffer frame) throws IOException {
+		frameBuffer.clear();
+		if (format == G15BufferFormat.WBUF) {
+			frame.encodeWBMP(frameBuffer);
+		} else {
+			frame.encodeGBUF(frameBuffer);
+		}
+		frameBuffer.flip();
+		write(frameBuffer);
+		++framesSent;
+	}
+	
+	/**
+	 * Send a single byte of urgent data to the daemon.
+	 * The socket adaptor of a SocketChannel only supports urgent data from
+	 * Java 7 onwards, which is why the build targets 1.7.
+	 *
+	 * @param data Byte to send
+	 * @throws IOException If the data could not be sent
+	 */
+	public void sendUrgentData(final int data) throws IOException {
+		channel.socket().sendUrgentData(data);
+	}
+	
+	/**
+	 * Write the whole of a buffer to the channel.
+	 *
+	 * @param buffer Buffer to write
+	 * @throws IOException If the buffer could not be written
+	 */
+	private synchronized void write(final ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			bytesSent += channel.write(buffer);
+		}
+	}
+	
+	/**
+	 * Get the number of bytes sent to the daemon.
+	 *
+	 * @return Number of bytes sent.
+	 */
+	public synchronized long getBytesSent() { return bytesSent; }
+	
+	/**
+	 * Get the number of frames sent to the daemon.
+	 *
+	 * @return Number of frames sent.
+	 */
+	public synchronized long getFramesSent() { return framesSent; }
+	
+	/**
+	 * Close the connection.
+	 *
+	 * @throws IOException If the channel could not be closed
+	 */
+	public void close() throws IOException {
+		channel.close();
+	}
+}
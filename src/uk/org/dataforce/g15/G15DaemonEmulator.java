@@ -0,0 +1,438 @@
+/*
+ * Copyright (c) 2006-2008 Shane Mc Cormack
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SVN: $Id$
+ */
+package uk.org.dataforce.g15;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+/**
+ * Stand-in for G15Daemon that runs on a local TCP port.
+ * This allows G15DaemonWrapper to be exercised and measured without a G15
+ * keyboard or a real daemon.
+ *
+ * One client is served at a time, a new client replaces the old one.
+ * Urgent data (LEDs, contrast and brightness) is read inline with the frames,
+ * so it is only recognised between frames. G15DaemonWrapper sends urgent data
+ * while holding the same lock it sends frames with, so it always arrives
+ * between frames.
+ */
+public class G15DaemonEmulator implements Runnable {
+	/** Handshake sent to new clients. */
+	private static final byte[] HANDSHAKE = {'G', '1', '5', ' ', 'd', 'a', 'e', 'm', 'o', 'n', ' ', 'H', 'E', 'L', 'L', 'O'};
+	/** Width of the screen. */
+	private static final int LCD_WIDTH = 160;
+	/** Height of the screen. */
+	private static final int LCD_HEIGHT = 43;
+	
+	/** Socket we listen on. */
+	private final ServerSocket serverSocket;
+	/** Thread accepting clients. */
+	private volatile Thread myThread = null;
+	/** Client currently connected, or null. */
+	private Socket client = null;
+	
+	/** Last frame received, null if no frame has been received. */
+	private G15FrameBuffer lastFrame = null;
+	/** Screen type the client asked for, or null. */
+	private String screenType = null;
+	/** Number of frames received. */
+	private long framesReceived = 0;
+	/** Number of bytes of frame data received. */
+	private long frameBytesReceived = 0;
+	/** Time the last frame was received (System.nanoTime()). */
+	private long lastFrameTime = 0;
+	/** Number of clients that have connected. */
+	private int connections = 0;
+	/** Current LED state, one bit per LED. */
+	private int ledState = 0;
+	/** Current contrast level, or -1 if it has not been set. */
+	private int contrastLevel = -1;
+	/** Current brightness level, or -1 if it has not been set. */
+	private int brightnessLevel = -1;
+	/** Has the client asked for key presses? */
+	private boolean keysRequested = false;
+	
+	/**
+	 * Create a new G15DaemonEmulator listening on the loopback interface.
+	 *
+	 * @param port Port to listen on, 0 to pick a free port.
+	 * @throws IOException If the port could not be opened
+	 */
+	public G15DaemonEmulator(final int port) throws IOException {
+		serverSocket = new ServerSocket(port, 1, InetAddress.getByName("127.0.0.1"));
+		myThread = new Thread(this, "G15DaemonEmulator");
+		myThread.setDaemon(true);
+		myThread.start();
+	}
+	
+	/**
+	 * Get the port we are listening on.
+	 *
+	 * @return Port we are listening on.
+	 */
+	public int getPort() {
+		return serverSocket.getLocalPort();
+	}
+	
+	/** Accept clients until we are closed. */
+	public void run() {
+		final Thread thisThread = Thread.currentThread();
+		while (myThread == thisThread) {
+			try {
+				final Socket newClient = serverSocket.accept();
+				newClient.setOOBInline(true);
+				newClient.setTcpNoDelay(true);
+				synchronized (this) {
+					if (client != null) {
+						try { client.close(); } catch (IOException e) { }
+					}
+					client = newClient;
+					screenType = null;
+					++connections;
+				}
+				new Thread(new Runnable() {
+					public void run() {
+						handleClient(newClient);
+					}
+				}, "G15DaemonEmulator Client").start();
+			} catch (IOException ioe) {
+				break;
+			}
+		}
+	}
+	
+	/**
+	 * Read from a client until it disconnects.
+	 *
+	 * @param socket Socket for the client
+	 */
+	private void handleClient(final Socket socket) {
+		try {
+			socket.getOutputStream().write(HANDSHAKE);
+			final DataInputStream in = new DataInputStream(socket.getInputStream());
+			
+			// Anything before the screen type is urgent data.
+			final byte[] type = new byte[4];
+			int next = in.readUnsignedByte();
+			while (next != 'G' && next != 'W') {
+				handleUrgentData(next);
+				next = in.readUnsignedByte();
+			}
+			type[0] = (byte)next;
+			in.readFully(type, 1, 3);
+			final G15BufferFormat format = ("WBUF".equals(new String(type, "US-ASCII"))) ? G15BufferFormat.WBUF : G15BufferFormat.GBUF;
+			synchronized (this) { screenType = format.getScreenType(); }
+			
+			final byte[] data = new byte[format.getFrameSize()];
+			final G15FrameBuffer frame = new G15FrameBuffer(LCD_WIDTH, LCD_HEIGHT);
+			while (true) {
+				// Frames start with 0 or 1, urgent data never does.
+				next = in.readUnsignedByte();
+				if (next > 1) {
+					handleUrgentData(next);
+					continue;
+				}
+				data[0] = (byte)next;
+				in.readFully(data, 1, data.length - 1);
+				if (format == G15BufferFormat.WBUF) {
+					decodeWBMP(data, frame);
+				} else {
+					decodeGBUF(data, frame);
+				}
+				synchronized (this) {
+					if (client != socket) { break; }
+					lastFrame = new G15FrameBuffer(frame);
+					++framesReceived;
+					frameBytesReceived += data.length;
+					lastFrameTime = System.nanoTime();
+					notifyAll();
+				}
+			}
+		} catch (EOFException eof) {
+			// Client went away.
+		} catch (IOException ioe) {
+			// Client went away.
+		} finally {
+			synchronized (this) {
+				if (client == socket) { client = null; }
+			}
+			try { socket.close(); } catch (IOException e) { }
+		}
+	}
+	
+	/**
+	 * Handle a byte of urgent data from the client.
+	 *
+	 * @param data Byte of urgent data
+	 */
+	private synchronized void handleUrgentData(final int data) {
+		if ((data & 0x80) != 0) {
+			brightnessLevel = data & 0x7F;
+		} else if ((data & 0x40) != 0) {
+			contrastLevel = data & 0x3F;
+		} else if ((data & 0x20) != 0) {
+			ledState = data & 0x1F;
+		} else if ((data & 0x10) != 0) {
+			keysRequested = true;
+		}
+	}
+	
+	/**
+	 * Decode a GBUF frame (one byte per pixel).
+	 *
+	 * @param data Frame data
+	 * @param frame Frame to decode into
+	 */
+	private static void decodeGBUF(final byte[] data, final G15FrameBuffer frame) {
+		int i = 0;
+		for (int y = 0; y < LCD_HEIGHT; y++) {
+			for (int x = 0; x < LCD_WIDTH; x++) {
+				frame.setPixel(x, y, data[i++] != 0);
+			}
+		}
+	}
+	
+	/**
+	 * Decode a WBUF frame (WBMP, one bit per pixel).
+	 *
+	 * @param data Frame data
+	 * @param frame Frame to decode into
+	 */
+	private static void decodeWBMP(final byte[] data, final G15FrameBuffer frame) {
+		final int rowBytes = (LCD_WIDTH + 7) / 8;
+		final int offset = data.length - (rowBytes * LCD_HEIGHT);
+		for (int y = 0; y < LCD_HEIGHT; y++) {
+			for (int x = 0; x < LCD_WIDTH; x++) {
+				frame.setPixel(x, y, (data[offset + y * rowBytes + (x >> 3)] & (0x80 >> (x & 7))) != 0);
+			}
+		}
+	}
+	
+	/**
+	 * Send the state of the keys to the client, as the daemon does when a key
+	 * is pressed or released.
+	 *
+	 * @param keys State of the keys, one bit per key (See G15Key.getMask())
+	 * @return true if the keys were sent, false if there is no client.
+	 */
+	public boolean sendKeys(final int keys) {
+		final Socket current;
+		synchronized (this) { current = client; }
+		if (current == null) { return false; }
+		final byte[] packet = {(byte)(keys >>> 24), (byte)(keys >>> 16), (byte)(keys >>> 8), (byte)keys};
+		try {
+			final OutputStream out = current.getOutputStream();
+			synchronized (current) {
+				out.write(packet);
+				out.flush();
+			}
+			return true;
+		} catch (IOException ioe) {
+			return false;
+		}
+	}
+	
+	/**
+	 * Press and release a key.
+	 *
+	 * @param key Key to press
+	 * @return true if the key was sent, false if there is no client.
+	 */
+	public boolean pressKey(final G15Key key) {
+		return sendKeys(key.getMask()) && sendKeys(0);
+	}
+	
+	/**
+	 * Wait until more than the given number of frames have been received.
+	 *
+	 * @param count Number of frames already seen
+	 * @param timeout How long to wait for (in ms)
+	 * @return true if a new frame arrived, false if we timed out.
+	 */
+	public synchronized boolean waitForFrame(final long count, final long timeout) {
+		final long end = System.currentTimeMillis() + timeout;
+		while (framesReceived <= count) {
+			final long remaining = end - System.currentTimeMillis();
+			if (remaining <= 0) { return false; }
+			try {
+				wait(remaining);
+			} catch (InterruptedException e) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Get a copy of the last frame received.
+	 *
+	 * @return The last frame received, or null if there has not been one.
+	 */
+	public synchronized G15FrameBuffer getLastFrame() {
+		return (lastFrame == null) ? null : new G15FrameBuffer(lastFrame);
+	}
+	
+	/**
+	 * Get the screen type the current client asked for.
+	 *
+	 * @return "GBUF", "WBUF" or null if it has not been sent yet.
+	 */
+	public synchronized String getScreenType() { return screenType; }
+	
+	/**
+	 * Get the number of frames received.
+	 *
+	 * @return Number of frames received.
+	 */
+	public synchronized long getFramesReceived() { return framesReceived; }
+	
+	/**
+	 * Get the number of bytes of frame data received.
+	 *
+	 * @return Number of bytes of frame data received.
+	 */
+	public synchronized long getFrameBytesReceived() { return frameBytesReceived; }
+	
+	/**
+	 * Get the time the last frame was received.
+	 *
+	 * @return Time the last frame was received (System.nanoTime()).
+	 */
+	public synchronized long getLastFrameTime() { return lastFrameTime; }
+	
+	/**
+	 * Get the number of clients that have connected.
+	 *
+	 * @return Number of clients that have connected.
+	 */
+	public synchronized int getConnections() { return connections; }
+	
+	/**
+	 * Get the LED state.
+	 *
+	 * @return LED state, bit 0 is M1, bit 1 is M2 and bit 2 is M3.
+	 */
+	public synchronized int getLEDState() { return ledState; }
+	
+	/**
+	 * Get the contrast level.
+	 *
+	 * @return Contrast level, or -1 if it has not been set.
+	 */
+	public synchronized int getContrastLevel() { return contrastLevel; }
+	
+	/**
+	 * Get the brightness level.
+	 *
+	 * @return Brightness level, or -1 if it has not been set.
+	 */
+	public synchronized int getBrightnessLevel() { return brightnessLevel; }
+	
+	/**
+	 * Has the client asked for key presses?
+	 *
+	 * @return true if the client asked for key presses.
+	 */
+	public synchronized boolean getKeysRequested() { return keysRequested; }
+	
+	/**
+	 * Disconnect the current client, as if the daemon had restarted.
+	 */
+	public void dropClient() {
+		final Socket current;
+		synchronized (this) {
+			current = client;
+			client = null;
+		}
+		if (current != null) {
+			try { current.close(); } catch (IOException e) { }
+		}
+	}
+	
+	/**
+	 * Stop listening, and disconnect the current client.
+	 */
+	public void close() {
+		myThread = null;
+		try { serverSocket.close(); } catch (IOException e) { }
+		dropClient();
+	}
+	
+	/**
+	 * Draw a frame as text, '#' for black and '.' for white.
+	 *
+	 * @param frame Frame to draw
+	 * @return The frame as text.
+	 */
+	public static String frameToString(final G15FrameBuffer frame) {
+		final StringBuilder result = new StringBuilder((frame.width() + 1) * frame.height());
+		for (int y = 0; y < frame.height(); y++) {
+			for (int x = 0; x < frame.width(); x++) {
+				result.append(frame.getPixel(x, y) ? '#' : '.');
+			}
+			result.append('\n');
+		}
+		return result.toString();
+	}
+	
+	/**
+	 * Run the emulator on its own, printing statistics every second.
+	 * Usage: G15DaemonEmulator [port] [--show]
+	 *
+	 * @param args Command line arguments
+	 * @throws Exception If the emulator could not be started
+	 */
+	public static void main(final String[] args) throws Exception {
+		int port = 15550;
+		boolean show = false;
+		for (String arg : args) {
+			if (arg.equals("--show")) {
+				show = true;
+			} else {
+				port = Integer.parseInt(arg);
+			}
+		}
+		final G15DaemonEmulator emulator = new G15DaemonEmulator(port);
+		System.out.println("G15DaemonEmulator listening on port "+emulator.getPort());
+		long lastFrames = 0;
+		long lastBytes = 0;
+		while (true) {
+			Thread.sleep(1000);
+			final long frames = emulator.getFramesReceived();
+			final long bytes = emulator.getFrameBytesReceived();
+			final long newFrames = frames - lastFrames;
+			System.out.println("fps: "+newFrames+" bytes/frame: "+((newFrames == 0) ? 0 : (bytes - lastBytes) / newFrames)+" type: "+emulator.getScreenType()+" leds: "+emulator.getLEDState()+" contrast: "+emulator.getContrastLevel()+" brightness: "+emulator.getBrightnessLevel());
+			if (show && newFrames > 0) {
+				System.out.print(frameToString(emulator.getLastFrame()));
+			}
+			lastFrames = frames;
+			lastBytes = bytes;
+		}
+	}
+}
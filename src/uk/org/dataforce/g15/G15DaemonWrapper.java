@@ -23,94 +23,70 @@
  */
 package uk.org.dataforce.g15;
 
-import uk.org.dataforce.g15.fonts.G15Font;
-
-import java.awt.Point;
-import java.net.Socket;
 import java.io.DataInputStream;
-import java.io.File;
 import java.io.IOException;
-import java.io.PrintWriter;
-
-import java.awt.geom.Rectangle2D;
-import java.awt.FontFormatException;
-import java.awt.font.LineMetrics;
 
 import java.awt.Dimension;
-import java.awt.image.BufferedImage;
-import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.awt.Stroke;
-import java.awt.BasicStroke;
-import java.awt.Color;
-import java.awt.Font;
-
-import java.util.HashMap;
-import java.util.ArrayList;
 
 /**
  * G15Daemon Wrapper for LCD Drawing.
  * This class relies on g15daemon
  */
-public class G15DaemonWrapper extends G15Wrapper implements Runnable {
+public class G15DaemonWrapper extends G15BufferedWrapper implements Runnable {
 
-	/** Map Input from G15Daemon Socket. */
-	private class G15Key {
-		/** The Command for this key. */
-		private String myCommand;
-		/** The value of this key. */
-		private int myValue;
-		
-		/** Create a new G15Key */
-		public G15Key(final String command, final int value) {
-			myCommand = command;
-			myValue = value;
-		}
-	
-		/** Get the Command for this key. */
-		public String getCommand() { return myCommand; }
-		/** Get the value of this key. */
-		public int getValue() { return myValue; }
-	}
-	
-	/** This List stores all the known keys */
-	private ArrayList<G15Key> keycodes = new ArrayList<G15Key>();
-	
-	/** This int stores the last keypress data */
-	private int lastKeyPress = 0;
+	/**
+	 * Decodes key packets from the daemon, null if the daemon is not sending
+	 * us key presses.
+	 */
+	private G15KeyDecoder keyDecoder = null;
 	
-	/** This is the socket used for reading from/writing to the Daemon. */
-	private Socket socket;
-	/** Used for writing to the daemon. */
-	private PrintWriter out;
-	/** Used for reading from the daemon. */
+	/**
+	 * This is the connection used for reading from/writing to the Daemon.
+	 * This is null while the connection is down.
+	 */
+	private volatile G15DaemonConnection connection;
+	/** Used for reading from the daemon, only used by the reader thread. */
 	private DataInputStream in;
-	/** Used for reading from the daemon. */
+	/** Used for reading from the daemon, and reconnecting if it goes away. */
 	private volatile Thread myThread = null;
+	/** Lock held while sending frames, guards lastFrame and frameConnection. */
+	private final Object sendLock = new Object();
+	/**
+	 * Connection that lastFrame was sent on.
+	 * If this is not the current connection, lastFrame needs to be sent again.
+	 */
+	private G15DaemonConnection frameConnection = null;
+	/** How long to wait before the first attempt to reconnect (in ms). */
+	private static final long RECONNECT_DELAY_MIN = 100;
+	/** Longest time to wait between attempts to reconnect (in ms). */
+	private static final long RECONNECT_DELAY_MAX = 10000;
 
-	/** Image used to draw on. */
-	private BufferedImage image = new BufferedImage(LCD_WIDTH, LCD_HEIGHT, BufferedImage.TYPE_BYTE_BINARY);
-	/** Graphics for the image */
-	private Graphics2D graphicsArea = image.createGraphics();
-	
-	/** FontSlot hashmap */
-	private HashMap<String, Font> fontSlots = new HashMap<String, Font>();
-	
-	/** Status of LEDs */
-	private boolean[] ledState = new boolean[3];
-	
 	/**
-	 * Are we emulating G15Composer?
-	 * Enabling this mode makes us copy some of G15Composers quirks, such as
-	 * - Centered text ignoring the X value for the position.
-	 * - Needing to load fonts for each size you want to use (in non-composer mode
-	 *   we ignore the size in loadFont)
+	 * Last frame sent to the daemon, null if nothing has been sent.
+	 * This is only used while holding sendLock.
 	 */
-	private boolean emulateComposer = true;
+	private G15FrameBuffer lastFrame = null;
+	/** Sends frames to the daemon. */
+	private G15FrameSender<G15FrameBuffer> sender = null;
+	/** Status of LEDs */
+	private boolean[] ledState = new boolean[3];
+	/** Last contrast level set, or -1 if it has not been set. */
+	private int contrastLevel = -1;
+	/** Last brightness level set, or -1 if it has not been set. */
+	private int brightnessLevel = -1;
 	
 	/** Are we connecting to a WIP version of G15Daemon? */
 	public static boolean isWIP = false;
 	
+	/** What host should new instances connect to G15Daemon on? */
+	public static String daemonHost = "127.0.0.1";
+	/** What port should new instances connect to G15Daemon on? */
+	public static int daemonPort = 15550;
+	
+	/** What format should new instances send frames to G15Daemon in? */
+	public static G15BufferFormat bufferFormat = G15BufferFormat.GBUF;
+	
 	/** Should new instances start in Debugging Mode? */
 	public static boolean debug = false;
 	/** What scaled size should new graphics areas be in debugging mode?  */
@@ -149,31 +125,20 @@ public class G15DaemonWrapper extends G15Wrapper implements Runnable {
 			debugDrawingArea = (Graphics2D)p.getGraphics();
 		} else {
 			try {
-				socket = new Socket("127.0.0.1", 15550);
-				socket.setOOBInline(true);
-				out = new PrintWriter(socket.getOutputStream(), false);
-				in = new DataInputStream(socket.getInputStream());
-				
-				byte[] inByte = new byte[16];
-				if (in.read(inByte) != inByte.length) {
-					System.out.println("Not a G15Daemon? Ignoring KeyPresses");
-				} else {
-					// Configure outselves for the key codes
-					setKeyCodes();
-					if (!isWIP) {
-						// Tell older G15Daemons we want to know about key presses.
-						try {
-							socket.sendUrgentData(0x10);
-						} catch (IOException ioe) { }
-					}
-					// And now set all the LEDs off so that the actual state matches our
-					// state.
-					setMXLight(0, false);
-				}
+				openConnection();
 				
 				myThread = new Thread(this);
 				myThread.start();
-				out.print("GBUF");
+				sender = new G15FrameSender<G15FrameBuffer>("G15DaemonWrapper Output", new G15FrameSender.FrameOutput<G15FrameBuffer>() {
+					public G15FrameBuffer sendFrame(final G15FrameBuffer newFrame) throws IOException {
+						return sendToDaemon(newFrame);
+					}
+					
+					public G15FrameBuffer mergeFrames(final G15FrameBuffer older, final G15FrameBuffer newer) {
+						// Each frame is the whole screen, so the newer frame wins.
+						return newer;
+					}
+				});
 				clearScreen(false);
 			} catch (Exception e) {
 				throw new G15NotFoundException("Unable to open socket to G15Daemon");
@@ -190,539 +155,304 @@ public class G15DaemonWrapper extends G15Wrapper implements Runnable {
 	/** Close socket. */
 	public void close() {
 		if (debugDrawingArea == null) {
-			try { socket.close(); }
-			catch (IOException e) { 
-				System.out.println("Could not close socket");
-			}
 			Thread tmpThread = myThread;
 			myThread = null;
 			if (tmpThread != null) { tmpThread.interrupt(); }
-		}
-	}
-	
-	/** Read input from G15Daemon */
-	public void run() {
-		int inData = 0;
-		Thread thisThread = Thread.currentThread();
-		while (myThread == thisThread) {
-			try {
-				byte[] inByte = new byte[4];
-				if (in.read(inByte) == 4) {
-					inData = (((inByte[0] & 0xFF) << 24) | ((inByte[1] & 0xFF) << 16) | ((inByte[2] & 0xFF) << 8) | (inByte[3]& 0xFF));
-					for (G15Key key : keycodes) {
-						if ((key.getValue() & inData) != 0 && (key.getValue() & lastKeyPress) == 0) {
-							RemoteControl.getRemoteControl().addCommand(key.getCommand());
-						}
-					}
-					lastKeyPress = inData;
+			final G15DaemonConnection current = connection;
+			connection = null;
+			if (current != null) {
+				try { current.close(); }
+				catch (IOException e) { 
+					System.out.println("Could not close socket");
 				}
-			} catch (IOException ioe) {
-				break;
 			}
-		}
-		myThread = null;
-	}
-	
-	private void setKeyCodes() {
-		keycodes.add(new G15Key("BUTTON G1", 16777216));
-		keycodes.add(new G15Key("BUTTON G2", 33554432));
-		keycodes.add(new G15Key("BUTTON G3", 67108864));
-		keycodes.add(new G15Key("BUTTON G4", 134217728));
-		keycodes.add(new G15Key("BUTTON G5", 268435456));
-		keycodes.add(new G15Key("BUTTON G6", 536870912));
-		keycodes.add(new G15Key("BUTTON G7", 1073741824));
-		keycodes.add(new G15Key("BUTTON G8", -2147483648));
-		keycodes.add(new G15Key("BUTTON G9", 65536));
-		keycodes.add(new G15Key("BUTTON G10", 131072));
-		keycodes.add(new G15Key("BUTTON G11", 262144));
-		keycodes.add(new G15Key("BUTTON G12", 524288));
-		keycodes.add(new G15Key("BUTTON G13", 1048576));
-		keycodes.add(new G15Key("BUTTON G14", 2097152));
-		keycodes.add(new G15Key("BUTTON G15", 4194304));
-		keycodes.add(new G15Key("BUTTON G16", 8388608));
-		keycodes.add(new G15Key("BUTTON G17", 256));
-		keycodes.add(new G15Key("BUTTON G18", 512));
-		
-		keycodes.add(new G15Key("BUTTON M1", 1024));
-		keycodes.add(new G15Key("BUTTON M2", 2048));
-		keycodes.add(new G15Key("BUTTON M3", 4096));
-		
-		keycodes.add(new G15Key("BUTTON CHG", 16384));
-		keycodes.add(new G15Key("BUTTON LCD1", 32768));
-		keycodes.add(new G15Key("BUTTON LCD2", 1));
-		keycodes.add(new G15Key("BUTTON LCD3", 2));
-		keycodes.add(new G15Key("BUTTON LCD4", 4));
-	}
-	
-	/**
-	 * Convert a boolean into a char
-	 *
-	 * @param bool Boolean to convert
-	 * @return white for false, black for true.
-	 */
-	private Color convertBoolean(boolean bool) {
-		if (bool == true) {
-			return Color.black;
-		} else {
-			return Color.white;
-		}
-	}
-
-	/**
-	 * Get the G15-Char for the given RGB value.
-	 *
-	 * @param rgb RGB Value (from getRGB)
-	 * @return 0 for white, else 1.
-	 */
-	public char getChar(final int rgb) {
-		if (rgb == Color.white.getRGB()) {
-			return (char)0;
-		} else {
-			return (char)1;
+			if (sender != null) { sender.close(); }
 		}
 	}
 	
 	/**
-	 * Get the RGB value for the given char
-	 *
-	 * @param in Char Value (from getChar or so)
-	 * @return rgb for char. (white for 0, else black)
-	 */
-	public int getRGB(final char in) {
-		if (in == 0 || in == '0') {
-			return Color.white.getRGB();
-		} else {
-			return Color.black.getRGB();
-		}
-	}
-
-	/**
-	 * Draw to the screen
+	 * Open a new connection to the daemon.
+	 * This does the handshake, and restores the screen type, LEDs, contrast,
+	 * brightness and last frame before the connection is used for anything
+	 * else.
 	 *
-	 * @throws java.io.IOException Throws this if the socket is not able to be written to
+	 * @throws IOException If the connection could not be opened
 	 */
-	public void draw() throws IOException {
-		synchronized (image) {
-			if (debugDrawingArea == null) {
-				for (int y = 0; y < LCD_HEIGHT ; ++y) {
-					for (int x = 0; x < LCD_WIDTH ; ++x) {
-						out.print(getChar(image.getRGB(x,y)));
-					}
-				}
-				out.flush();
+	private void openConnection() throws IOException {
+		final G15DaemonConnection newConnection = new G15DaemonConnection(daemonHost, daemonPort, bufferFormat);
+		try {
+			final DataInputStream newIn = new DataInputStream(newConnection.getInputStream());
+			
+			if (!readHandshake(newIn)) {
+				System.out.println("Not a G15Daemon? Ignoring KeyPresses");
 			} else {
-				debugDrawingArea.drawImage(image, 0, 0, LCD_WIDTH*myScale, LCD_HEIGHT*myScale, null);
+				if (keyDecoder == null) {
+					// Configure outselves for the key codes
+					keyDecoder = new G15KeyDecoder(new G15KeyDecoder.KeyListener() {
+						public void keyPressed(final G15Key key) {
+							try {
+								RemoteControl.getRemoteControl().addCommand(key.getCommand());
+							} catch (IOException ioe) {
+								// RemoteControl isn't running yet, ignore the key.
+							}
+						}
+					});
+				} else {
+					keyDecoder.reset();
+				}
+				if (!isWIP) {
+					// Tell older G15Daemons we want to know about key presses.
+					try {
+						newConnection.sendUrgentData(0x10);
+					} catch (IOException ioe) { }
+				}
+				// And now set the LEDs so that the actual state matches our state.
+				newConnection.sendUrgentData(getLEDData());
 			}
+			
+			newConnection.sendScreenType();
+			synchronized (this) {
+				if (contrastLevel >= 0) { newConnection.sendUrgentData(0x40 | contrastLevel); }
+				if (brightnessLevel >= 0) { newConnection.sendUrgentData(0x80 | brightnessLevel); }
+			}
+			synchronized (sendLock) {
+				if (lastFrame != null) {
+					newConnection.sendFrame(lastFrame);
+					frameSent();
+				}
+				frameConnection = newConnection;
+				in = newIn;
+				connection = newConnection;
+			}
+		} catch (IOException ioe) {
+			try { newConnection.close(); } catch (IOException e) { }
+			throw ioe;
 		}
 	}
 	
 	/**
-	 * Draw to the screen without throwing an exception.
-	 *
-	 * @return true if draw was successful, else false
-	 */
-	public boolean silentDraw() {
-		try {
-			draw();
-			return true;
-		} catch (IOException e) {
-			return false;
-		}
-	}
-
-	/**
-	 * Draw a line of text in the default position.
-	 *
-	 * @param size FontSize of text to draw.
-	 * @param text String[] of lines to draw
-	 */
-	public void drawText(FontSize size, String[] text) {
-		int height = 0;
-		for (String line : text) {
-			drawText(size, new Point(0, height), G15Position.LEFT, line);
-			height = height + size.getFont().getSize().height;
-		}
-	}
-
-	/**
-	 * Draw a line of text to a specific position.
+	 * Read the handshake sent by the daemon when we connect.
 	 *
-	 * @param size FontSize of text to draw.
-	 * @param point Location to draw text
-	 * @param position G15Position to draw text (left, right, center)
-	 * @param text String[] of lines to draw
+	 * @param input Stream to read from
+	 * @return true if the whole handshake was read, else false.
+	 * @throws IOException If the stream could not be read
 	 */
-	public void drawText(FontSize size, Point point, G15Position position, String[] text) {
-		int height = point.y;
-		for (String line : text) {
-			drawText(size, new Point(point.x, height), position, line);
-			height = height + size.getFont().getSize().height;
+	private boolean readHandshake(final DataInputStream input) throws IOException {
+		final byte[] inByte = new byte[16];
+		int count = 0;
+		while (count < inByte.length) {
+			final int read = input.read(inByte, count, inByte.length - count);
+			if (read < 0) { return false; }
+			count += read;
 		}
+		return true;
 	}
 	
 	/**
-	 * Draw a line of text in the default position.
+	 * Called when a connection to the daemon fails.
+	 * The connection is closed, which will wake the reader thread so that it can
+	 * reconnect.
 	 *
-	 * @param size FontSize of text to draw.
-	 * @param text line to draw
+	 * @param failed Connection that failed
 	 */
-	public void drawText(FontSize size, String text) {
-		drawText(size, new Point(0, 0), G15Position.LEFT, text);
-	}
-
-	/**
-	 * Draw a line of text to a specific position.
-	 *
-	 * @param size FontSize of text to draw.
-	 * @param point Location to draw text
-	 * @param position G15Position to draw text (left, right, center)
-	 * @param text line to draw
-	 */
-	public void drawText(FontSize size, Point point, G15Position position, String text) {
-		synchronized (image) {
-			G15Font font = size.getFont();
-			if (font != null) {
-				int startPos = point.x;
-				int fontWidth = text.length()*font.getSize().width;
-				if (position == G15Position.CENTER) {
-					if (emulateComposer) {
-						startPos = 0;
-					}
-					int midpoint = startPos+(LCD_WIDTH-startPos)/2;
-					startPos = midpoint-(fontWidth/2);
-				} else if (position == G15Position.RIGHT) {
-					startPos = LCD_WIDTH-fontWidth;
-				}
-			
-				for (int i = 0; i < text.length(); i++) {
-					for (int x = 0; x < font.getSize().width; x++) {
-						for (int y = 0; y < font.getSize().height; y++) {
-							int ypos = point.y+y;
-							int xpos = startPos+x+(font.getSize().width*i);
-							if (xpos >= 0 && xpos < LCD_WIDTH && ypos >= 0 && ypos < LCD_HEIGHT) {
-								image.setRGB(xpos, ypos, font.getPixelColor(text.charAt(i), x, y).getRGB());
-							}
-						}
-					}
-				}
-			}
+	private void connectionLost(final G15DaemonConnection failed) {
+		synchronized (sendLock) {
+			if (connection == failed) { connection = null; }
 		}
+		try { failed.close(); } catch (IOException e) { }
 	}
-
+	
 	/**
-	 * Loads a font into a font slot.
+	 * Keep trying to reconnect to the daemon, waiting longer after each
+	 * failure.
 	 *
-	 * @param fontSlot Which slot to load font into
-	 * @param size Size of font
-	 * @param pathToFont Path to font file
+	 * @param thisThread Thread that is reconnecting, this stops if the wrapper
+	 *                   is closed.
+	 * @return true if we reconnected, false if the wrapper was closed.
 	 */
-	public void loadFont(int fontSlot, int size, String pathToFont) {
-		final String slotName = "Font-"+fontSlot + ((emulateComposer) ? "-"+size : "");
-		if (fontSlots.containsKey(slotName)) {
-			fontSlots.remove(fontSlot);
+	private boolean reconnect(final Thread thisThread) {
+		System.out.println("Lost connection to G15Daemon, reconnecting");
+		if (bufferFormat == G15BufferFormat.WBUF) {
+			System.out.println("If this G15Daemon does not support wbmp, set bufferformat to gbuf");
 		}
-		final File fontFile = new File(pathToFont);
-		if (fontFile.exists() && fontFile.isFile()) {
+		long delay = RECONNECT_DELAY_MIN;
+		while (myThread == thisThread) {
 			try {
-				final Font font = Font.createFont(Font.TRUETYPE_FONT, fontFile);
-				fontSlots.put(slotName, font);
-			} catch (FontFormatException ffe) {
+				Thread.sleep(delay);
+			} catch (InterruptedException e) {
+				return false;
+			}
+			if (myThread != thisThread) { return false; }
+			try {
+				openConnection();
+				System.out.println("Reconnected to G15Daemon");
+				return true;
 			} catch (IOException ioe) {
+				delay = Math.min(delay * 2, RECONNECT_DELAY_MAX);
 			}
 		}
+		return false;
 	}
-
+	
 	/**
-	 * Draw text using specified font
+	 * Get the connection to the daemon.
 	 *
-	 * @param fontSlot Font slot for font
-	 * @param size size of font
-	 * @param point location to draw text at
-	 * @param isBlack True for bacl text, false for white
-	 * @param position Position for text
-	 * @param text Text to output
+	 * @return The connection to the daemon, or null in debugging mode or while
+	 *         reconnecting.
 	 */
-	public void drawFont(int fontSlot, int size, Point point, boolean isBlack, G15Position position, String text) {
-		drawFont(fontSlot, size, point, isBlack, position, new String[]{text});
+	public G15DaemonConnection getConnection() {
+		return connection;
 	}
 	
 	/**
-	 * Draw text using specified font
-	 *
-	 * @param fontSlot Font slot for font
-	 * @param size size of font
-	 * @param point location to draw text at
-	 * @param isBlack True for bacl text, false for white
-	 * @param position Position for text
-	 * @param text Text to output
+	 * Read input from G15Daemon.
+	 * If the connection fails, this reconnects.
 	 */
-	public void drawFont(int fontSlot, int size, Point point, boolean isBlack, G15Position position, String[] text) {
-		synchronized (image) {
-			final String slotName = "Font-"+fontSlot + ((emulateComposer) ? "-"+size : "");
-			if (!fontSlots.containsKey(slotName)) {
-				return;
-			}
-			
-			final Font font = fontSlots.get(slotName);
-			graphicsArea.setFont(font);
-			
-			// Now we can get the bounds and metrics of each line.
-			final Rectangle2D[] bounds = new Rectangle2D[text.length];
-			final LineMetrics[] metrics = new LineMetrics[text.length];
-			
-			for (int i = 0; i < text.length; ++i) {
-				bounds[i] = font.getStringBounds(text[i], graphicsArea.getFontRenderContext());
-				metrics[i] = font.getLineMetrics(text[i], graphicsArea.getFontRenderContext());
-			}
-			
-			// Start location (point is bottom-left
-			int currentTop = point.y;
-			for (int i = 0; i < text.length; ++i) {
-				// Drawing is done in the bottom left corner, so we add the height
-				// of the line, to the current "top" position, to find out where we should
-				// draw.
-				currentTop += bounds[i].getHeight();
-				// However, we need to take into account the overhang in characters like y and g
-				int y = Math.round(currentTop - metrics[i].getDescent());
-				
-				// Now to get where the left should go.
-				int x = point.x;
-				int fontWidth = (int)bounds[i].getWidth();
-				if (position == G15Position.CENTER) {
-					if (emulateComposer) {
-						x = 0;
-					}
-					int midpoint = x+(LCD_WIDTH-x)/2;
-					x = midpoint-(fontWidth/2);
-				} else if (position == G15Position.RIGHT) {
-					x = LCD_WIDTH-fontWidth;
+	public void run() {
+		final byte[] discard = new byte[4];
+		Thread thisThread = Thread.currentThread();
+		while (myThread == thisThread) {
+			final G15DaemonConnection current = connection;
+			try {
+				if (current == null) {
+					throw new IOException("Not connected");
+				} else if (keyDecoder != null) {
+					keyDecoder.read(in);
+				} else if (in.read(discard) < 0) {
+					throw new IOException("Connection closed");
 				}
-				
-				// And draw.
-				graphicsArea.drawString(text[i], x, y);
+			} catch (IOException ioe) {
+				if (myThread != thisThread) { break; }
+				if (current != null) { connectionLost(current); }
+				if (!reconnect(thisThread)) { break; }
 			}
 		}
 	}
 	
 	/**
-	 * Draws a pixel image of the given Width and Height at the given point
+	 * Send a frame to the daemon, unless it is the same as the last one sent.
+	 * This is called from the sender thread.
+	 * If the connection is down, the frame is kept and sent when we reconnect.
 	 *
-	 * @param point Location to draw image
-	 * @param width Width of image
-	 * @param height height of image
-	 * @param pixels String containing image as a string of 0's and 1's (0 = white, 1 = black)
+	 * @param newFrame Frame to send
+	 * @return Frame that is no longer needed
 	 */
-	public void drawPixels(Point point, int width, int height, String pixels) {
-		if (pixels.length() < (width*height)) {
-			System.out.println("[drawPixels] Not recieved enough pixels. Not drawing. (Wanted: "+(width*height)+" Got: "+pixels.length()+")");
-			return;
-		} else if (pixels.length() > (width*height)) {
-			System.out.println("[drawPixels] Recieved more pixels than space to draw. This may look wrong!");
-		}
-		synchronized (image) {
-			for (int y = 0; y < height ; ++y) {
-				for (int x = 0; x < width ; ++x) {
-					if (x+point.x < LCD_WIDTH && y+point.y < LCD_HEIGHT) {
-						image.setRGB(x+point.x, y+point.y, getRGB(pixels.charAt((y*width)+x)));
-					}
+	private G15FrameBuffer sendToDaemon(final G15FrameBuffer newFrame) {
+		synchronized (sendLock) {
+			final G15DaemonConnection current = connection;
+			if (current != null && current == frameConnection && newFrame.equals(lastFrame)) {
+				frameSuppressed();
+				return newFrame;
+			}
+			final G15FrameBuffer oldFrame = lastFrame;
+			lastFrame = newFrame;
+			frameConnection = null;
+			if (current != null) {
+				try {
+					current.sendFrame(newFrame);
+					frameConnection = current;
+					frameSent();
+				} catch (IOException ioe) {
+					connectionLost(current);
 				}
 			}
+			return oldFrame;
 		}
 	}
 	
 	/**
-	 * Draws a pixel image of the given PixelImage
+	 * Send the current frame to the screen.
+	 * The back buffer is copied into a front buffer, which is published to the
+	 * sender thread with an atomic swap, so this does not wait for the daemon.
+	 * Nothing is sent if the frame is the same as the last one sent.
 	 *
-	 * @param point Location to draw image
-	 * @param PixelImage PixelImage to draw.
+	 * @throws java.io.IOException Throws this if sending a previous frame failed
 	 */
-	public void drawPixels(Point point, PixelImage image) {
-		drawPixels(point, image.width(), image.height(), image.toString());
-	}
-	
-	/**
-	 * Set the colour of the pixel at a given point
-	 *
-	 * @param point Point to set pixel at
-	 * @param isBlack True to set to black, false to set to white
-	 */
-	public void setPixelColour(Point point, boolean isBlack) {
-		synchronized (image) {
-			image.setRGB(point.x, point.y, convertBoolean(isBlack).getRGB());
+	protected void sendFrame() throws IOException {
+		if (debugDrawingArea == null) {
+			G15FrameBuffer front = sender.obtain();
+			if (front == null) {
+				front = new G15FrameBuffer(frame);
+			} else {
+				front.copyFrom(frame);
+			}
+			sender.post(front);
+		} else {
+			debugDrawingArea.drawImage(getImage(), 0, 0, LCD_WIDTH*myScale, LCD_HEIGHT*myScale, null);
 		}
-	}
-
-	/**
-	 * Clear the screen and set it all to a specified colour
-	 *
-	 * @param isBlack True to set to black, false to set to white
-	 */
-	public void clearScreen(boolean isBlack) {
-		synchronized (image) {
-			graphicsArea.setColor(convertBoolean(isBlack));
-			graphicsArea.fillRect(0, 0, LCD_WIDTH+1, LCD_HEIGHT+1);
+		if (sender != null) {
+			final IOException error = sender.getError();
+			if (error != null) { throw error; }
 		}
 	}
-
+	
 	/**
-	 * Fill a specified area in either white or black
-	 *
-	 * @param point1 Point to start at for area
-	 * @param point2 Point to finish at for area
-	 * @param isBlack True to set to black, false to set to white
+	 * Wait until everything passed to draw() has been sent to the daemon.
 	 */
-	public void fillArea(Point point1, Point point2, boolean isBlack) {
-		synchronized (image) {
-			graphicsArea.setColor(convertBoolean(isBlack));
-			final int x = (point2.x-point1.x > 0) ? point1.x : point2.x;
-			final int y = (point2.y-point1.y > 0) ? point1.y : point2.y;
-			graphicsArea.fillRect(x, y, Math.abs(point2.x-point1.x), Math.abs(point2.y-point1.y+1));
-		}
+	public void flush() {
+		if (sender != null) { sender.flush(1000); }
 	}
-
+	
 	/**
-	 * Reverse all the pixels in a specific area
+	 * Set the MX Light on/off.
 	 *
-	 * @param point1 Point to start at for area
-	 * @param point2 Point to finish at for area
+	 * @param light Which light to set (0 = all, 1,2,3 = M1 M2 M3)
+	 * @param setOn true to turn on, false to turn off.
 	 */
-	public void reversePixels(Point point1, Point point2) {
-		synchronized (image) {
-			for (int x = point1.x ; x <= point2.x ; ++x) {
-				for (int y = point1.y; y <= point2.y ; ++y) {
-					setPixelColour(new Point(x, y), (image.getRGB(x, y) == Color.white.getRGB()));
+	public boolean setMXLight(int light, boolean setOn) {
+		if (debugDrawingArea != null) { return false; }
+		final int data;
+		synchronized (this) {
+			for (int i = 0; i < ledState.length; i++) {
+				if (light == 0) {
+					ledState[i] = setOn;
+				} else if (light == (i+1)) {
+					ledState[i] = setOn;
 				}
 			}
+			data = getLEDData();
 		}
-	}
-
-	/**
-	 * Draw a box
-	 *
-	 * @param point1 Point to start at for area
-	 * @param point2 Point to finish at for area
-	 * @param isBlack True to set to black, false to set to white
-	 * @param thickness Thickness of line
-	 */
-	public void drawBox(Point point1, Point point2, boolean isBlack, int thickness) {
-		synchronized (image) {
-			Stroke oldStroke = graphicsArea.getStroke();
-			graphicsArea.setStroke(new BasicStroke(thickness));
 		
-			graphicsArea.setColor(convertBoolean(isBlack));
-			final int x = (point2.x-point1.x > 0) ? point1.x : point2.x;
-			final int y = (point2.y-point1.y > 0) ? point1.y : point2.y;
-			graphicsArea.drawRect(x, y, Math.abs(point2.x-point1.x), Math.abs(point2.y-point1.y+1));
-			
-			graphicsArea.setStroke(oldStroke);
-		}
-	}
-
-	/**
-	 * Draw a line
-	 *
-	 * @param point1 Point to start at for line
-	 * @param point2 Point to finish at for line
-	 * @param isBlack True to set to black, false to set to white
-	 */
-	public void drawLine(Point point1, Point point2, boolean isBlack) {
-		synchronized (image) {
-			graphicsArea.setColor(convertBoolean(isBlack));
-			graphicsArea.drawLine(point1.x, point1.y, point2.x, point2.y);
-		}
+		return sendUrgentData(data);
 	}
-
+	
 	/**
-	 * Draw a circle
+	 * Get the urgent data byte for the current LED state.
 	 *
-	 * @param center Center Point
-	 * @param radius Radius of circle
-	 * @param isBlack True to set to black, false to set to white
-	 * @param filled Is the circle filled or not
+	 * @return Urgent data to set the LEDs.
 	 */
-	public void drawCircle(Point center, int radius, boolean isBlack, boolean filled) {
-		synchronized (image) {
-			graphicsArea.setColor(convertBoolean(isBlack));
-		
-			graphicsArea.drawOval(center.x-radius, center.y-radius, radius*2, radius*2);
-			if (filled) {
-				graphicsArea.fillOval(center.x-radius, center.y-radius, radius*2, radius*2);
+	private synchronized int getLEDData() {
+		int data = 0x20;
+		for (int i = 0; i < ledState.length; i++) {
+			if (ledState[i]) {
+				data = data | 1<<i;
 			}
 		}
+		return data;
 	}
-
-	/**
-	 * Draw a rounded box
-	 *
-	 * @param point1 Point to start at for area
-	 * @param point2 Point to finish at for area
-	 * @param isBlack True to set to black, false to set to white
-	 * @param filled Is the box filled or not
-	 */
-	public void drawRoundedBox(Point point1, Point point2, boolean isBlack, boolean filled) {
-		synchronized (image) {
-			graphicsArea.setColor(convertBoolean(isBlack));
-			graphicsArea.drawRoundRect(point1.x, point1.y, point2.x-point1.x, point2.y-point1.y, 8, 8);
-		}
-	}
-
-	/**
-	 * Draw a progress bar
-	 *
-	 * @param point1 Point to start at
-	 * @param point2 point to finish at
-	 * @param isBlack True to set to black, false to set to white
-	 * @param position Position of the bar
-	 * @param maxPosition Max Position of the bar
-	 * @param barType Type of progress bar
-	 */
-	public void drawProgressBar(Point point1, Point point2, boolean isBlack, int position, int maxPosition, ProgressBarType barType) {
-		synchronized (image) {
-			final Color background = (isBlack) ? Color.white : Color.black;
-			final Color foreground = (isBlack) ? Color.black : Color.white;
-			
-			final double percent = (100.0/maxPosition)*position;
-			// The 0.01d here solves some rounding problems.
-			// its not ideal, its not right, but it works. stupid floating point crap.
-			final int length = (int)Math.round(0.01d + ((point2.x-(point1.x+1))/100.0)*percent);
-			
-//			if (barType == ProgressBarType.TYPE1) {
-				if (emulateComposer && ((point2.x - point1.x) < 0 || (point2.y - point1.y) < 0)) {
-					// For negative X/Y direction, g15composer doesn't fill the bar...
-					drawBox(new Point(point1.x, point1.y), new Point(point1.x+1+length, point2.y-1), isBlack, 1);
-				} else {
-					fillArea(new Point(point1.x, point1.y), new Point(point1.x+1+length, point2.y), isBlack);
-				}
-				drawBox(new Point(point1.x, point1.y-1), new Point(point2.x, point2.y), isBlack, 1);
-//			}
-		}
-	}
-
+	
 	/**
-	 * Set the MX Light on/off.
+	 * Send urgent data to the daemon.
+	 * This holds sendLock so that the byte can never land in the middle of a
+	 * frame. (openConnection() sends its urgent data before the connection is
+	 * published, on the same thread as the first frame.)
 	 *
-	 * @param light Which light to set (0 = all, 1,2,3 = M1 M2 M3)
-	 * @param setOn true to turn on, false to turn off.
+	 * @param data Byte to send
+	 * @return true if the data was sent, false if it will be sent when we
+	 *         reconnect.
 	 */
-	public boolean setMXLight(int light, boolean setOn) {
-		if (debugDrawingArea != null) { return false; }
-		int data = 0x20;
-
-		for (int i = 0; i < ledState.length; i++) {
-			if (light == 0) {
-				ledState[i] = setOn;
-			} else if (light == (i+1)) {
-				ledState[i] = setOn;
-			}
-			if (ledState[i]) {
-				data = data | 1<<i;
+	private boolean sendUrgentData(final int data) {
+		synchronized (sendLock) {
+			final G15DaemonConnection current = connection;
+			if (current == null) { return false; }
+			try {
+				current.sendUrgentData(data);
+				return true;
+			} catch (IOException ioe) {
+				connectionLost(current);
+				return false;
 			}
 		}
-		
-		try {
-			socket.sendUrgentData(data);
-			return true;
-		} catch (IOException ioe) { return false; }
 	}
 	
 	/**
@@ -732,10 +462,8 @@ public class G15DaemonWrapper extends G15Wrapper implements Runnable {
 	 */
 	public boolean setContrastLevel(int level) {
 		if (debugDrawingArea != null) { return false; }
-		try {
-			socket.sendUrgentData(0x40 | level);
-			return true;
-		} catch (IOException ioe) { return false; }
+		synchronized (this) { contrastLevel = level; }
+		return sendUrgentData(0x40 | level);
 	}
 	
 	/**
@@ -745,10 +473,8 @@ public class G15DaemonWrapper extends G15Wrapper implements Runnable {
 	 */
 	public boolean setBrightnessLevel(int level) {
 		if (debugDrawingArea != null) { return false; }
-		try {
-			socket.sendUrgentData(0x80 | level);
-			return true;
-		} catch (IOException ioe) { return false; }
+		synchronized (this) { brightnessLevel = level; }
+		return sendUrgentData(0x80 | level);
 	}
 
 	/**
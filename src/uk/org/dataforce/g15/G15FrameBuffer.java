@@ -0,0 +1,704 @@
+/*
+ * Copyright (c) 2006-2008 Shane Mc Cormack
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SVN: $Id$
+ */
+package uk.org.dataforce.g15;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A packed 1-bit image.
+ * Each row is stored as a run of 32-bit words, left-most pixel in the most
+ * significant bit, with a set bit being a black pixel.
+ * The LCD itself is a 160x43 G15FrameBuffer, which is 5 words per row or 860
+ * bytes in total.
+ */
+public class G15FrameBuffer {
+	/** applyRect() operation that sets pixels to white. */
+	private static final int OP_WHITE = 0;
+	/** applyRect() operation that sets pixels to black. */
+	private static final int OP_BLACK = 1;
+	/** applyRect() operation that inverts pixels. */
+	private static final int OP_INVERT = 2;
+	
+	/** Width in pixels. */
+	private final int myWidth;
+	/** Height in pixels. */
+	private final int myHeight;
+	/** Number of words used for each row. */
+	private final int myStride;
+	/** Pixel data. */
+	private final int[] myData;
+	
+	/**
+	 * Create a new (white) G15FrameBuffer.
+	 *
+	 * @param width Width in pixels
+	 * @param height Height in pixels
+	 */
+	public G15FrameBuffer(final int width, final int height) {
+		myWidth = width;
+		myHeight = height;
+		myStride = (width + 31) >> 5;
+		myData = new int[myStride * height];
+	}
+	
+	/**
+	 * Create a new G15FrameBuffer as a copy of another.
+	 *
+	 * @param source G15FrameBuffer to copy
+	 */
+	public G15FrameBuffer(final G15FrameBuffer source) {
+		this(source.myWidth, source.myHeight);
+		copyFrom(source);
+	}
+	
+	/**
+	 * Get width.
+	 *
+	 * @return width of the buffer
+	 */
+	public int width() { return myWidth; }
+	
+	/**
+	 * Get height.
+	 *
+	 * @return height of the buffer
+	 */
+	public int height() { return myHeight; }
+	
+	/**
+	 * Get the colour of a pixel.
+	 *
+	 * @param x X position
+	 * @param y Y position
+	 * @return true if the pixel is black, false if white or outside the buffer
+	 */
+	public boolean getPixel(final int x, final int y) {
+		if (x < 0 || y < 0 || x >= myWidth || y >= myHeight) { return false; }
+		return (myData[y * myStride + (x >> 5)] & (0x80000000 >>> (x & 31))) != 0;
+	}
+	
+	/**
+	 * Set the colour of a pixel.
+	 * Pixels outside the buffer are ignored.
+	 *
+	 * @param x X position
+	 * @param y Y position
+	 * @param isBlack True to set to black, false to set to white
+	 */
+	public void setPixel(final int x, final int y, final boolean isBlack) {
+		if (x < 0 || y < 0 || x >= myWidth || y >= myHeight) { return; }
+		final int pos = y * myStride + (x >> 5);
+		final int mask = 0x80000000 >>> (x & 31);
+		if (isBlack) {
+			myData[pos] |= mask;
+		} else {
+			myData[pos] &= ~mask;
+		}
+	}
+	
+	/**
+	 * Invert the colour of a pixel.
+	 * Pixels outside the buffer are ignored.
+	 *
+	 * @param x X position
+	 * @param y Y position
+	 */
+	public void invertPixel(final int x, final int y) {
+		if (x < 0 || y < 0 || x >= myWidth || y >= myHeight) { return; }
+		myData[y * myStride + (x >> 5)] ^= 0x80000000 >>> (x & 31);
+	}
+	
+	/**
+	 * Set the whole buffer to one colour.
+	 *
+	 * @param isBlack True to set to black, false to set to white
+	 */
+	public void clear(final boolean isBlack) {
+		if (isBlack) {
+			fill(0, 0, myWidth, myHeight, true);
+		} else {
+			Arrays.fill(myData, 0);
+		}
+	}
+	
+	/**
+	 * Fill a rectangle with one colour.
+	 * The rectangle is clipped to the buffer, and filled a word at a time.
+	 *
+	 * @param x Left of the rectangle
+	 * @param y Top of the rectangle
+	 * @param width Width of the rectangle
+	 * @param height Height of the rectangle
+	 * @param isBlack True to set to black, false to set to white
+	 */
+	public void fill(final int x, final int y, final int width, final int height, final boolean isBlack) {
+		applyRect(x, y, width, height, (isBlack) ? OP_BLACK : OP_WHITE);
+	}
+	
+	/**
+	 * Invert all the pixels in a rectangle.
+	 * The rectangle is clipped to the buffer, and inverted a word at a time.
+	 *
+	 * @param x Left of the rectangle
+	 * @param y Top of the rectangle
+	 * @param width Width of the rectangle
+	 * @param height Height of the rectangle
+	 */
+	public void invert(final int x, final int y, final int width, final int height) {
+		applyRect(x, y, width, height, OP_INVERT);
+	}
+	
+	/**
+	 * Change every pixel in a rectangle.
+	 * The rectangle is clipped to the buffer, then each row is changed with a
+	 * masked operation on its first and last words and a plain write to the
+	 * words between them.
+	 *
+	 * @param x Left of the rectangle
+	 * @param y Top of the rectangle
+	 * @param width Width of the rectangle
+	 * @param height Height of the rectangle
+	 * @param op OP_WHITE, OP_BLACK or OP_INVERT
+	 */
+	private void applyRect(final int x, final int y, final int width, final int height, final int op) {
+		final int startX = Math.max(x, 0);
+		final int startY = Math.max(y, 0);
+		final int endX = Math.min(x + width, myWidth);
+		final int endY = Math.min(y + height, myHeight);
+		if (startX >= endX || startY >= endY) { return; }
+		final int[] data = myData;
+		
+		if (startX == 0 && endX == myWidth && (myWidth & 31) == 0) {
+			// Whole rows with no padding are one run of words.
+			final int end = endY * myStride;
+			if (op == OP_INVERT) {
+				for (int pos = startY * myStride; pos < end; ++pos) { data[pos] = ~data[pos]; }
+			} else {
+				Arrays.fill(data, startY * myStride, end, (op == OP_BLACK) ? -1 : 0);
+			}
+			return;
+		}
+		
+		final int firstWord = startX >> 5;
+		final int lastWord = (endX - 1) >> 5;
+		// Bits from startX to the end of its word, and from the start of the
+		// last word to endX-1. If they are the same word only the overlap is used.
+		int firstMask = -1 >>> (startX & 31);
+		final int lastMask = 0x80000000 >> ((endX - 1) & 31);
+		if (firstWord == lastWord) { firstMask &= lastMask; }
+		for (int row = startY; row < endY; ++row) {
+			final int first = row * myStride + firstWord;
+			final int last = row * myStride + lastWord;
+			if (op == OP_INVERT) {
+				data[first] ^= firstMask;
+				for (int pos = first + 1; pos < last; ++pos) { data[pos] = ~data[pos]; }
+				if (last != first) { data[last] ^= lastMask; }
+			} else if (op == OP_BLACK) {
+				data[first] |= firstMask;
+				for (int pos = first + 1; pos < last; ++pos) { data[pos] = -1; }
+				if (last != first) { data[last] |= lastMask; }
+			} else {
+				data[first] &= ~firstMask;
+				for (int pos = first + 1; pos < last; ++pos) { data[pos] = 0; }
+				if (last != first) { data[last] &= ~lastMask; }
+			}
+		}
+	}
+	
+	/**
+	 * Draw a line.
+	 * This steps along the longer axis with Bresenham's algorithm, moving
+	 * along the shorter axis once the error reaches half a pixel, which gives
+	 * the same pixels as Java2D's drawLine. Horizontal and vertical lines are
+	 * filled a word at a time.
+	 *
+	 * @param x1 X of the start of the line
+	 * @param y1 Y of the start of the line
+	 * @param x2 X of the end of the line
+	 * @param y2 Y of the end of the line
+	 * @param isBlack True to draw in black, false to draw in white
+	 */
+	public void drawLine(final int x1, final int y1, final int x2, final int y2, final boolean isBlack) {
+		final int dx = Math.abs(x2 - x1);
+		final int dy = Math.abs(y2 - y1);
+		if (dy == 0) {
+			fill(Math.min(x1, x2), y1, dx + 1, 1, isBlack);
+			return;
+		} else if (dx == 0) {
+			fill(x1, Math.min(y1, y2), 1, dy + 1, isBlack);
+			return;
+		}
+		
+		final int stepX = (x2 > x1) ? 1 : -1;
+		final int stepY = (y2 > y1) ? 1 : -1;
+		int x = x1;
+		int y = y1;
+		if (dx >= dy) {
+			int error = -dx;
+			for (int i = 0; i <= dx; ++i) {
+				setPixel(x, y, isBlack);
+				x += stepX;
+				error += dy * 2;
+				if (error >= 0) {
+					y += stepY;
+					error -= dx * 2;
+				}
+			}
+		} else {
+			int error = -dy;
+			for (int i = 0; i <= dy; ++i) {
+				setPixel(x, y, isBlack);
+				y += stepY;
+				error += dx * 2;
+				if (error >= 0) {
+					x += stepX;
+					error -= dy * 2;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Draw the outline of a rectangle.
+	 * This gives the same pixels as Java2D's drawRect with a BasicStroke of the
+	 * given thickness: each side is a band of thickness pixels, starting
+	 * thickness/2 pixels before the edge.
+	 *
+	 * @param x Left of the rectangle
+	 * @param y Top of the rectangle
+	 * @param width Width of the rectangle, the right edge is at x+width
+	 * @param height Height of the rectangle, the bottom edge is at y+height
+	 * @param thickness Thickness of the outline
+	 * @param isBlack True to draw in black, false to draw in white
+	 */
+	public void drawRect(final int x, final int y, final int width, final int height, final int thickness, final boolean isBlack) {
+		if (width < 0 || height < 0) { return; }
+		final int size = Math.max(thickness, 1);
+		final int left = x - size / 2;
+		final int top = y - size / 2;
+		final int outerWidth = width + size;
+		final int outerHeight = height + size;
+		
+		fill(left, top, outerWidth, size, isBlack);
+		fill(left, top + height, outerWidth, size, isBlack);
+		fill(left, top, size, outerHeight, isBlack);
+		fill(left + width, top, size, outerHeight, isBlack);
+	}
+	
+	/**
+	 * Draw the outline of a rectangle with rounded corners.
+	 * The corners are the ones Java2D's drawRoundRect draws with an 8x8 arc,
+	 * which need the rectangle to be at least 8 pixels in each direction.
+	 *
+	 * @param x Left of the rectangle
+	 * @param y Top of the rectangle
+	 * @param width Width of the rectangle (at least 8), the right edge is at x+width
+	 * @param height Height of the rectangle (at least 8), the bottom edge is at y+height
+	 * @param isBlack True to draw in black, false to draw in white
+	 */
+	public void drawRoundedRect(final int x, final int y, final int width, final int height, final boolean isBlack) {
+		final int right = x + width;
+		final int bottom = y + height;
+		// Straight edges
+		fill(x + 3, y, width - 5, 1, isBlack);
+		fill(x + 3, bottom, width - 5, 1, isBlack);
+		fill(x, y + 3, 1, height - 5, isBlack);
+		fill(right, y + 3, 1, height - 5, isBlack);
+		// Corners
+		setPixel(x + 1, y + 1, isBlack);
+		setPixel(x + 2, y + 1, isBlack);
+		setPixel(x + 1, y + 2, isBlack);
+		setPixel(right - 1, y + 1, isBlack);
+		setPixel(right - 2, y + 1, isBlack);
+		setPixel(right - 1, y + 2, isBlack);
+		setPixel(x + 1, bottom - 1, isBlack);
+		setPixel(x + 2, bottom - 1, isBlack);
+		setPixel(x + 1, bottom - 2, isBlack);
+		setPixel(right - 1, bottom - 1, isBlack);
+		setPixel(right - 2, bottom - 1, isBlack);
+		setPixel(right - 1, bottom - 2, isBlack);
+	}
+	
+	/**
+	 * Draw a circle, using the midpoint circle algorithm.
+	 * A filled circle is drawn as one span per row.
+	 *
+	 * @param centerX X of the center of the circle
+	 * @param centerY Y of the center of the circle
+	 * @param radius Radius of the circle
+	 * @param filled True to fill the circle, false to only draw the outline
+	 * @param isBlack True to draw in black, false to draw in white
+	 */
+	public void drawCircle(final int centerX, final int centerY, final int radius, final boolean filled, final boolean isBlack) {
+		if (radius < 0) { return; }
+		int x = 0;
+		int y = radius;
+		int decision = 1 - radius;
+		while (x <= y) {
+			if (filled) {
+				fill(centerX - x, centerY - y, x * 2 + 1, 1, isBlack);
+				fill(centerX - x, centerY + y, x * 2 + 1, 1, isBlack);
+				fill(centerX - y, centerY - x, y * 2 + 1, 1, isBlack);
+				fill(centerX - y, centerY + x, y * 2 + 1, 1, isBlack);
+			} else {
+				setPixel(centerX + x, centerY + y, isBlack);
+				setPixel(centerX - x, centerY + y, isBlack);
+				setPixel(centerX + x, centerY - y, isBlack);
+				setPixel(centerX - x, centerY - y, isBlack);
+				setPixel(centerX + y, centerY + x, isBlack);
+				setPixel(centerX - y, centerY + x, isBlack);
+				setPixel(centerX + y, centerY - x, isBlack);
+				setPixel(centerX - y, centerY - x, isBlack);
+			}
+			if (decision < 0) {
+				decision += x * 2 + 3;
+			} else {
+				decision += (x - y) * 2 + 5;
+				--y;
+			}
+			++x;
+		}
+	}
+	
+	/**
+	 * Draw rows of up to 32 pixels, such as the glyphs from a G15Font.
+	 * Each row is an int with the leftmost pixel in the most significant bit,
+	 * set bits are drawn black and clear bits white. The rectangle is clipped
+	 * to the buffer once, then each row is written with at most two masked
+	 * word writes.
+	 *
+	 * @param x Left of the rectangle
+	 * @param y Top of the rectangle
+	 * @param rows Rows to draw
+	 * @param offset Position in rows of the first row to draw
+	 * @param width Width of each row (1-32)
+	 * @param height Number of rows to draw
+	 */
+	public void drawRows(final int x, final int y, final int[] rows, final int offset, final int width, final int height) {
+		final int startX = Math.max(x, 0);
+		final int startY = Math.max(y, 0);
+		final int endX = Math.min(x + width, myWidth);
+		final int endY = Math.min(y + height, myHeight);
+		if (startX >= endX || startY >= endY) { return; }
+		
+		// Bits to drop from the left of each row, and the bits left to draw.
+		final int skip = startX - x;
+		final int count = endX - startX;
+		final int mask = (count == 32) ? -1 : ~(-1 >>> count);
+		final int shift = startX & 31;
+		final int word = startX >> 5;
+		// Does the row run into a second word?
+		final boolean spill = (shift + count) > 32;
+		final int firstMask = mask >>> shift;
+		final int secondMask = (spill) ? mask << (32 - shift) : 0;
+		
+		int pos = startY * myStride + word;
+		int rowPos = offset + (startY - y);
+		for (int row = startY; row < endY; ++row) {
+			final int bits = (rows[rowPos++] << skip) & mask;
+			myData[pos] = (myData[pos] & ~firstMask) | (bits >>> shift);
+			if (spill) {
+				myData[pos + 1] = (myData[pos + 1] & ~secondMask) | (bits << (32 - shift));
+			}
+			pos += myStride;
+		}
+	}
+	
+	/**
+	 * Draw another buffer onto this one, replacing the pixels underneath it.
+	 * The source is clipped to this buffer, and drawn a word at a time.
+	 *
+	 * @param source Buffer to draw
+	 * @param x Where to put the left of the source
+	 * @param y Where to put the top of the source
+	 */
+	public void drawBuffer(final G15FrameBuffer source, final int x, final int y) {
+		drawBuffer(source, x, y, 0, myWidth);
+	}
+	
+	/**
+	 * Draw another buffer onto this one, replacing the pixels underneath it,
+	 * but only between two columns.
+	 * The source is clipped to the columns and this buffer, and drawn a word at
+	 * a time.
+	 *
+	 * @param source Buffer to draw
+	 * @param x Where to put the left of the source
+	 * @param y Where to put the top of the source
+	 * @param clipLeft First column that can be drawn to
+	 * @param clipRight Column after the last one that can be drawn to
+	 */
+	public void drawBuffer(final G15FrameBuffer source, final int x, final int y, final int clipLeft, final int clipRight) {
+		final int left = Math.max(clipLeft, 0);
+		final int right = Math.min(clipRight, myWidth);
+		final int startY = Math.max(y, 0);
+		final int endY = Math.min(y + source.myHeight, myHeight);
+		for (int row = startY; row < endY; ++row) {
+			final int sourceRow = (row - y) * source.myStride;
+			final int rowStart = row * myStride;
+			for (int k = 0; k < source.myStride; ++k) {
+				int bits = source.myData[sourceRow + k];
+				int destX = x + (k << 5);
+				// Number of pixels in this word, only the last word is partial.
+				int count = Math.min(32, source.myWidth - (k << 5));
+				if (destX < left) {
+					if (destX + count <= left) { continue; }
+					bits <<= left - destX;
+					count -= left - destX;
+					destX = left;
+				}
+				if (destX >= right) { break; }
+				count = Math.min(count, right - destX);
+				final int mask = (count == 32) ? -1 : ~(-1 >>> count);
+				bits &= mask;
+				final int shift = destX & 31;
+				final int pos = rowStart + (destX >> 5);
+				myData[pos] = (myData[pos] & ~(mask >>> shift)) | (bits >>> shift);
+				if (shift + count > 32) {
+					myData[pos + 1] = (myData[pos + 1] & ~(mask << (32 - shift))) | (bits << (32 - shift));
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Draw the black pixels of another buffer onto this one in the given
+	 * colour, leaving the rest of this buffer alone.
+	 * The mask is clipped to this buffer, and drawn a word at a time.
+	 *
+	 * @param mask Buffer to use as a mask
+	 * @param x Where to put the left of the mask
+	 * @param y Where to put the top of the mask
+	 * @param isBlack True to draw in black, false to draw in white
+	 */
+	public void drawMask(final G15FrameBuffer mask, final int x, final int y, final boolean isBlack) {
+		final int startY = Math.max(y, 0);
+		final int endY = Math.min(y + mask.myHeight, myHeight);
+		for (int row = startY; row < endY; ++row) {
+			final int maskRow = (row - y) * mask.myStride;
+			final int rowStart = row * myStride;
+			for (int k = 0; k < mask.myStride; ++k) {
+				int bits = mask.myData[maskRow + k];
+				if (bits == 0) { continue; }
+				int destX = x + (k << 5);
+				if (destX < 0) {
+					if (destX <= -32) { continue; }
+					bits <<= -destX;
+					destX = 0;
+				}
+				if (destX >= myWidth) { break; }
+				if (myWidth - destX < 32) {
+					bits &= ~(-1 >>> (myWidth - destX));
+				}
+				final int shift = destX & 31;
+				final int pos = rowStart + (destX >> 5);
+				applyBits(pos, bits >>> shift, isBlack);
+				if (shift != 0 && (destX >> 5) + 1 < myStride) {
+					applyBits(pos + 1, bits << (32 - shift), isBlack);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Set or clear bits in a word of the buffer.
+	 *
+	 * @param pos Word to change
+	 * @param bits Bits to change
+	 * @param isBlack True to set the bits, false to clear them
+	 */
+	private void applyBits(final int pos, final int bits, final boolean isBlack) {
+		if (isBlack) {
+			myData[pos] |= bits;
+		} else {
+			myData[pos] &= ~bits;
+		}
+	}
+	
+	/**
+	 * Copy the contents of another buffer of the same size into this one.
+	 *
+	 * @param source Buffer to copy from
+	 */
+	public void copyFrom(final G15FrameBuffer source) {
+		if (source.myWidth != myWidth || source.myHeight != myHeight) {
+			throw new IllegalArgumentException("Buffer sizes do not match");
+		}
+		System.arraycopy(source.myData, 0, myData, 0, myData.length);
+	}
+	
+	/**
+	 * Encode this buffer as one byte per pixel (0 = white, 1 = black), as
+	 * used by the g15daemon "GBUF" screen type.
+	 *
+	 * @param output Buffer to write to, must have at least width*height bytes
+	 *               remaining
+	 */
+	public void encodeGBUF(final ByteBuffer output) {
+		for (int y = 0; y < myHeight; ++y) {
+			final int rowStart = y * myStride;
+			for (int x = 0; x < myWidth; ++x) {
+				output.put((byte)((myData[rowStart + (x >> 5)] >>> (31 - (x & 31))) & 1));
+			}
+		}
+	}
+	
+	/**
+	 * Encode this buffer as a type 0 WBMP image (1 = black), as used by the
+	 * g15daemon "WBUF" screen type.
+	 * Only images up to 16383 pixels in each direction can be encoded.
+	 *
+	 * @param output Buffer to write to, must have enough space remaining for the
+	 *               header and height rows of (width+7)/8 bytes
+	 */
+	public void encodeWBMP(final ByteBuffer output) {
+		// Type 0, fixed header 0, then the multi-byte width and height.
+		output.put((byte)0);
+		output.put((byte)0);
+		putMultiByte(output, myWidth);
+		putMultiByte(output, myHeight);
+		encodeRows(output);
+	}
+	
+	/**
+	 * Encode this buffer as a binary PBM (P4) image.
+	 *
+	 * @param output Buffer to write to, must have getPBMSize() bytes remaining.
+	 */
+	public void encodePBM(final ByteBuffer output) {
+		output.put(getPBMHeader());
+		encodeRows(output);
+	}
+	
+	/**
+	 * Get the size of this buffer when encoded as a PBM image.
+	 *
+	 * @return Size of the PBM image in bytes.
+	 */
+	public int getPBMSize() {
+		return getPBMHeader().length + (((myWidth + 7) >> 3) * myHeight);
+	}
+	
+	/**
+	 * Get the header for a PBM image of this size.
+	 *
+	 * @return PBM header.
+	 */
+	private byte[] getPBMHeader() {
+		return ("P4\n"+myWidth+" "+myHeight+"\n").getBytes();
+	}
+	
+	/**
+	 * Write the rows of this buffer, packed 8 pixels to a byte with the
+	 * leftmost pixel in the most significant bit and black as 1.
+	 * This is the row format used by both WBMP and PBM.
+	 *
+	 * @param output Buffer to write to
+	 */
+	private void encodeRows(final ByteBuffer output) {
+		final int bytesPerRow = (myWidth + 7) >> 3;
+		for (int y = 0; y < myHeight; ++y) {
+			final int rowStart = y * myStride;
+			for (int b = 0; b < bytesPerRow; ++b) {
+				output.put((byte)(myData[rowStart + (b >> 2)] >>> (24 - ((b & 3) << 3))));
+			}
+		}
+	}
+	
+	/**
+	 * Write a WBMP multi-byte integer.
+	 *
+	 * @param output Buffer to write to
+	 * @param value Value to write (0-16383)
+	 */
+	private static void putMultiByte(final ByteBuffer output, final int value) {
+		if (value > 0x7F) {
+			output.put((byte)(0x80 | (value >> 7)));
+		}
+		output.put((byte)(value & 0x7F));
+	}
+	
+	/**
+	 * Copy this buffer into a TYPE_BYTE_BINARY BufferedImage of the same size.
+	 * This is used when something needs to be drawn with Java2D.
+	 *
+	 * @param image Image to copy to
+	 */
+	public void toImage(final BufferedImage image) {
+		final byte[] pixels = ((DataBufferByte)image.getRaster().getDataBuffer()).getData();
+		final int bytesPerRow = (myWidth + 7) >> 3;
+		for (int y = 0; y < myHeight; ++y) {
+			final int rowStart = y * myStride;
+			for (int b = 0; b < bytesPerRow; ++b) {
+				// In the default binary colour model a set bit is white.
+				pixels[y * bytesPerRow + b] = (byte)~(myData[rowStart + (b >> 2)] >>> (24 - ((b & 3) << 3)));
+			}
+		}
+	}
+	
+	/**
+	 * Copy a TYPE_BYTE_BINARY BufferedImage of the same size into this buffer.
+	 *
+	 * @param image Image to copy from
+	 */
+	public void fromImage(final BufferedImage image) {
+		final byte[] pixels = ((DataBufferByte)image.getRaster().getDataBuffer()).getData();
+		final int bytesPerRow = (myWidth + 7) >> 3;
+		Arrays.fill(myData, 0);
+		for (int y = 0; y < myHeight; ++y) {
+			final int rowStart = y * myStride;
+			for (int b = 0; b < bytesPerRow; ++b) {
+				myData[rowStart + (b >> 2)] |= (~pixels[y * bytesPerRow + b] & 0xFF) << (24 - ((b & 3) << 3));
+			}
+			// Make sure that any padding at the end of the row stays white.
+			if ((myWidth & 31) != 0) {
+				myData[rowStart + myStride - 1] &= -1 << (32 - (myWidth & 31));
+			}
+		}
+	}
+	
+	/**
+	 * Check if this buffer has the same size and contents as another.
+	 *
+	 * @param obj Object to compare to
+	 * @return true if obj is a G15FrameBuffer with identical pixels.
+	 */
+	public boolean equals(final Object obj) {
+		if (!(obj instanceof G15FrameBuffer)) { return false; }
+		final G15FrameBuffer other = (G15FrameBuffer)obj;
+		return myWidth == other.myWidth && myHeight == other.myHeight && Arrays.equals(myData, other.myData);
+	}
+	
+	/**
+	 * Get the hashcode of this buffer.
+	 *
+	 * @return Hashcode of the pixel data.
+	 */
+	public int hashCode() {
+		return Arrays.hashCode(myData);
+	}
+}
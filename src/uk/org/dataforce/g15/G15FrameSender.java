@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2006-2008 Shane Mc Cormack
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SVN: $Id$
+ */
+package uk.org.dataforce.g15;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends frames to the screen from a dedicated thread, so that drawing never
+ * has to wait for the screen.
+ * Frames are handed over through a single slot using atomic swaps, so neither
+ * side ever holds a lock. A frame that has not been sent yet is replaced by a
+ * newer one rather than queued behind it. (Outputs whose frames only contain
+ * changes can merge the two frames instead.)
+ * Frames must not be changed once they have been posted. Frames that are no
+ * longer needed are kept for reuse, and can be retrieved with obtain().
+ *
+ * @param <T> Type of frame
+ */
+public class G15FrameSender<T> implements Runnable {
+	/**
+	 * Something that can send frames to the screen.
+	 *
+	 * @param <T> Type of frame
+	 */
+	public interface FrameOutput<T> {
+		/**
+		 * Send a frame to the screen.
+		 *
+		 * @param frame Frame to send
+		 * @return A frame that is no longer needed and can be reused, or null.
+		 * @throws IOException If the frame could not be sent
+		 */
+		T sendFrame(T frame) throws IOException;
+		
+		/**
+		 * Combine a frame that has not been sent yet with a newer frame.
+		 *
+		 * @param older Frame that has not been sent yet
+		 * @param newer Newer frame
+		 * @return The frame to send in place of both (either older or newer),
+		 *         the other will be reused.
+		 */
+		T mergeFrames(T older, T newer);
+	}
+	
+	/** Where frames are sent to. */
+	private final FrameOutput<T> myOutput;
+	/** Frame waiting to be sent. */
+	private final AtomicReference<T> pending = new AtomicReference<T>();
+	/** Frame that can be reused. */
+	private final AtomicReference<T> spare = new AtomicReference<T>();
+	/** Is a frame being sent right now? */
+	private volatile boolean sending = false;
+	/** Last error from sending a frame, if it has not been reported yet. */
+	private final AtomicReference<IOException> lastError = new AtomicReference<IOException>();
+	/** Number of frames replaced or merged before they were sent. */
+	private final AtomicLong framesDropped = new AtomicLong();
+	/** Thread used to send frames. */
+	private volatile Thread myThread = null;
+	
+	/**
+	 * Create a new G15FrameSender, and start its thread.
+	 *
+	 * @param name Name for the thread
+	 * @param output Where frames should be sent
+	 */
+	public G15FrameSender(final String name, final FrameOutput<T> output) {
+		myOutput = output;
+		myThread = new Thread(this, name);
+		myThread.setDaemon(true);
+		myThread.start();
+	}
+	
+	/**
+	 * Get a frame that is no longer in use, if there is one.
+	 *
+	 * @return A frame that can be reused, or null.
+	 */
+	public T obtain() {
+		return spare.getAndSet(null);
+	}
+	
+	/**
+	 * Hand a frame to the thread to be sent.
+	 * This replaces (or is merged with) any frame that has not been sent yet.
+	 *
+	 * @param frame Frame to send
+	 */
+	public void post(final T frame) {
+		T newFrame = frame;
+		while (!pending.compareAndSet(null, newFrame)) {
+			// Take the unsent frame back, if the thread has not taken it already.
+			final T older = pending.get();
+			if (older != null && pending.compareAndSet(older, null)) {
+				framesDropped.incrementAndGet();
+				final T merged = myOutput.mergeFrames(older, newFrame);
+				spare.set((merged == newFrame) ? older : newFrame);
+				newFrame = merged;
+			}
+		}
+		final Thread thread = myThread;
+		if (thread != null) { LockSupport.unpark(thread); }
+	}
+	
+	/**
+	 * Get (and clear) the last error from sending a frame.
+	 *
+	 * @return The last error, or null if there has not been one since the last call.
+	 */
+	public IOException getError() {
+		return lastError.getAndSet(null);
+	}
+	
+	/**
+	 * Get the number of frames that were replaced by (or merged with) newer
+	 * frames before being sent.
+	 *
+	 * @return Number of frames dropped.
+	 */
+	public long getFramesDropped() { return framesDropped.get(); }
+	
+	/**
+	 * Wait until all frames that have been posted have been sent.
+	 *
+	 * @param timeout Maximum time to wait in milliseconds
+	 * @return true if all frames were sent, false if the timeout was reached.
+	 */
+	public boolean flush(final long timeout) {
+		final long endTime = System.currentTimeMillis() + timeout;
+		while ((pending.get() != null || sending) && myThread != null) {
+			if (System.currentTimeMillis() >= endTime) { return false; }
+			G15Wrapper.waitFor(1);
+		}
+		return true;
+	}
+	
+	/** Stop the thread. Frames that have not been sent are discarded. */
+	public void close() {
+		final Thread tmpThread = myThread;
+		myThread = null;
+		if (tmpThread != null) { LockSupport.unpark(tmpThread); }
+	}
+	
+	/** Send frames as they are posted. */
+	public void run() {
+		final Thread thisThread = Thread.currentThread();
+		while (myThread == thisThread) {
+			sending = true;
+			final T frame = pending.getAndSet(null);
+			if (frame == null) {
+				sending = false;
+				// Check again, post() may have missed us while we were marked as sending.
+				if (pending.get() == null) {
+					LockSupport.park(this);
+				}
+				continue;
+			}
+			
+			T unused = null;
+			try {
+				unused = myOutput.sendFrame(frame);
+			} catch (IOException e) {
+				lastError.set(e);
+			}
+			if (unused != null) {
+				spare.compareAndSet(null, unused);
+			}
+		}
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2006-2008 Shane Mc Cormack
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SVN: $Id$
+ */
+package uk.org.dataforce.g15;
+
+/**
+ * Keys reported by G15Daemon.
+ * Each key is a single bit in the 4-byte key packets sent by the daemon.
+ */
+public enum G15Key {
+	/** G1 Key. */
+	G1 ("BUTTON G1", 24),
+	/** G2 Key. */
+	G2 ("BUTTON G2", 25),
+	/** G3 Key. */
+	G3 ("BUTTON G3", 26),
+	/** G4 Key. */
+	G4 ("BUTTON G4", 27),
+	/** G5 Key. */
+	G5 ("BUTTON G5", 28),
+	/** G6 Key. */
+	G6 ("BUTTON G6", 29),
+	/** G7 Key. */
+	G7 ("BUTTON G7", 30),
+	/** G8 Key. */
+	G8 ("BUTTON G8", 31),
+	/** G9 Key. */
+	G9 ("BUTTON G9", 16),
+	/** G10 Key. */
+	G10 ("BUTTON G10", 17),
+	/** G11 Key. */
+	G11 ("BUTTON G11", 18),
+	/** G12 Key. */
+	G12 ("BUTTON G12", 19),
+	/** G13 Key. */
+	G13 ("BUTTON G13", 20),
+	/** G14 Key. */
+	G14 ("BUTTON G14", 21),
+	/** G15 Key. */
+	G15 ("BUTTON G15", 22),
+	/** G16 Key. */
+	G16 ("BUTTON G16", 23),
+	/** G17 Key. */
+	G17 ("BUTTON G17", 8),
+	/** G18 Key. */
+	G18 ("BUTTON G18", 9),
+	/** M1 Key. */
+	M1 ("BUTTON M1", 10),
+	/** M2 Key. */
+	M2 ("BUTTON M2", 11),
+	/** M3 Key. */
+	M3 ("BUTTON M3", 12),
+	/** Change screen Key. */
+	CHG ("BUTTON CHG", 14),
+	/** LCD Button 1. */
+	LCD1 ("BUTTON LCD1", 15),
+	/** LCD Button 2. */
+	LCD2 ("BUTTON LCD2", 0),
+	/** LCD Button 3. */
+	LCD3 ("BUTTON LCD3", 1),
+	/** LCD Button 4. */
+	LCD4 ("BUTTON LCD4", 2);
+	
+	/** Keys indexed by their bit position. */
+	private static final G15Key[] keysByBit = new G15Key[32];
+	
+	static {
+		for (G15Key key : values()) {
+			keysByBit[key.getBit()] = key;
+		}
+	}
+	
+	/** RemoteControl command for this key. */
+	final String myCommand;
+	/** Bit position of this key. */
+	final int myBit;
+	
+	/**
+	 * Create a new G15Key.
+	 *
+	 * @param command RemoteControl command for this key.
+	 * @param bit Bit position of this key.
+	 */
+	G15Key (final String command, final int bit) {
+		myCommand = command;
+		myBit = bit;
+	}
+	
+	/**
+	 * Get the RemoteControl command for this key.
+	 *
+	 * @return command for this key.
+	 */
+	public String getCommand() { return myCommand; }
+	
+	/**
+	 * Get the bit position of this key.
+	 *
+	 * @return bit position of this key.
+	 */
+	public int getBit() { return myBit; }
+	
+	/**
+	 * Get the mask for this key.
+	 *
+	 * @return mask for this key.
+	 */
+	public int getMask() { return 1 << myBit; }
+	
+	/**
+	 * Get the key for the given bit position.
+	 *
+	 * @param bit Bit position (0-31)
+	 * @return The key for this bit, or null if there is none.
+	 */
+	public static G15Key forBit(final int bit) {
+		return keysByBit[bit & 31];
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2006-2008 Shane Mc Cormack
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SVN: $Id$
+ */
+package uk.org.dataforce.g15;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+
+/**
+ * Decodes the key packets sent by G15Daemon.
+ * Packets are read into a reused buffer, and newly pressed keys are found by
+ * masking out the keys that were already held, so decoding does not allocate
+ * or search through the keys.
+ */
+public class G15KeyDecoder {
+	/** Something that wants to know about key presses. */
+	public interface KeyListener {
+		/**
+		 * Called when a key is pressed.
+		 *
+		 * @param key Key that was pressed
+		 */
+		void keyPressed(G15Key key);
+	}
+	
+	/** Where key presses are sent. */
+	private final KeyListener myListener;
+	/** Buffer used for reading packets. */
+	private final byte[] packet = new byte[4];
+	/** Keys that were held in the last packet. */
+	private int lastKeys = 0;
+	
+	/**
+	 * Create a new G15KeyDecoder.
+	 *
+	 * @param listener Where key presses should be sent.
+	 */
+	public G15KeyDecoder(final KeyListener listener) {
+		myListener = listener;
+	}
+	
+	/**
+	 * Read a single key packet and decode it.
+	 * This blocks until a whole packet has been read.
+	 *
+	 * @param in Stream to read from
+	 * @throws IOException If the stream could not be read
+	 */
+	public void read(final DataInputStream in) throws IOException {
+		in.readFully(packet);
+		decode(((packet[0] & 0xFF) << 24) | ((packet[1] & 0xFF) << 16) | ((packet[2] & 0xFF) << 8) | (packet[3] & 0xFF));
+	}
+	
+	/**
+	 * Decode a key packet, and send any newly pressed keys to the listener.
+	 *
+	 * @param keys State of all the keys, one bit per key.
+	 */
+	public void decode(final int keys) {
+		int pressed = keys & ~lastKeys;
+		lastKeys = keys;
+		while (pressed != 0) {
+			final G15Key key = G15Key.forBit(Integer.numberOfTrailingZeros(pressed));
+			// Clear the lowest set bit.
+			pressed &= pressed - 1;
+			if (key != null) {
+				myListener.keyPressed(key);
+			}
+		}
+	}
+	
+	/**
+	 * Forget which keys were held, so that any key in the next packet is
+	 * treated as newly pressed.
+	 */
+	public void reset() {
+		lastKeys = 0;
+	}
+}
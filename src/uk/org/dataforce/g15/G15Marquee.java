@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2006-2008 Shane Mc Cormack
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SVN: $Id$
+ */
+package uk.org.dataforce.g15;
+
+import uk.org.dataforce.g15.fonts.G15Font;
+
+/**
+ * A line of text that scrolls sideways when it is too wide for its area.
+ * Draw it with G15Wrapper.drawMarquee() every redraw, in between redraws the
+ * wrapper keeps it moving from G15Control's animation timer.
+ *
+ * The text is only rendered again when it changes, each frame of the scroll
+ * just draws a different part of it.
+ */
+public class G15Marquee {
+	/** Default scroll speed in pixels per second. */
+	public static final int DEFAULT_SPEED = 20;
+	/** Default gap in pixels between the end of the text and the next copy. */
+	public static final int DEFAULT_GAP = 20;
+	/** Default time in milliseconds to wait before scrolling new text. */
+	public static final int DEFAULT_PAUSE = 1000;
+	
+	/** Size of the text. */
+	private final FontSize mySize;
+	/** Left of the area. */
+	private final int myX;
+	/** Top of the area. */
+	private final int myY;
+	/** Width of the area. */
+	private final int myWidth;
+	/** Where to put text that is not wide enough to scroll. */
+	private G15Position myPosition = G15Position.CENTER;
+	/** Scroll speed in pixels per second. */
+	private int mySpeed = DEFAULT_SPEED;
+	/** Gap in pixels between copies of the text. */
+	private int myGap = DEFAULT_GAP;
+	/** Time in milliseconds to wait before scrolling new text. */
+	private int myPause = DEFAULT_PAUSE;
+	/** The text. */
+	private String myText = "";
+	/** When the text was set. */
+	private long startTime = System.currentTimeMillis();
+	/** The rendered text, or null if it has not been rendered yet. */
+	private G15FrameBuffer strip = null;
+	/**
+	 * Offset the marquee was last drawn at (in whatever unit the wrapper
+	 * scrolls in), or -1 if it needs drawing.
+	 */
+	int lastOffset = -1;
+	
+	/**
+	 * Create a new G15Marquee.
+	 *
+	 * @param size Size of the text
+	 * @param x Left of the area
+	 * @param y Top of the area
+	 * @param width Width of the area
+	 */
+	public G15Marquee(final FontSize size, final int x, final int y, final int width) {
+		mySize = size;
+		myX = x;
+		myY = y;
+		myWidth = width;
+	}
+	
+	/**
+	 * Set the text.
+	 * If the text has changed it is rendered again, and starts from the
+	 * beginning.
+	 *
+	 * @param text New text
+	 */
+	public void setText(final String text) {
+		final String newText = (text == null) ? "" : text;
+		if (!newText.equals(myText)) {
+			myText = newText;
+			strip = null;
+			startTime = System.currentTimeMillis();
+			lastOffset = -1;
+		}
+	}
+	
+	/**
+	 * Get the text.
+	 *
+	 * @return The text.
+	 */
+	public String getText() { return myText; }
+	
+	/**
+	 * Set where text that is too short to scroll is drawn.
+	 *
+	 * @param position G15Position to draw short text at (left, right, center)
+	 */
+	public void setPosition(final G15Position position) {
+		myPosition = position;
+		lastOffset = -1;
+	}
+	
+	/**
+	 * Get where text that is too short to scroll is drawn.
+	 *
+	 * @return G15Position of short text.
+	 */
+	public G15Position getPosition() { return myPosition; }
+	
+	/**
+	 * Set the scroll speed.
+	 *
+	 * @param speed Speed in pixels per second
+	 */
+	public void setSpeed(final int speed) { mySpeed = Math.max(speed, 0); }
+	
+	/**
+	 * Get the scroll speed.
+	 *
+	 * @return Speed in pixels per second.
+	 */
+	public int getSpeed() { return mySpeed; }
+	
+	/**
+	 * Set the gap between the end of the text and the next copy of it.
+	 *
+	 * @param gap Gap in pixels
+	 */
+	public void setGap(final int gap) { myGap = Math.max(gap, 0); }
+	
+	/**
+	 * Get the gap between the end of the text and the next copy of it.
+	 *
+	 * @return Gap in pixels.
+	 */
+	public int getGap() { return myGap; }
+	
+	/**
+	 * Set how long to wait before scrolling new text.
+	 *
+	 * @param pause Time in milliseconds
+	 */
+	public void setPause(final int pause) { myPause = Math.max(pause, 0); }
+	
+	/**
+	 * Get how long to wait before scrolling new text.
+	 *
+	 * @return Time in milliseconds.
+	 */
+	public int getPause() { return myPause; }
+	
+	/**
+	 * Get the size of the text.
+	 *
+	 * @return FontSize of the text.
+	 */
+	public FontSize getSize() { return mySize; }
+	
+	/**
+	 * Get the left of the area.
+	 *
+	 * @return Left of the area.
+	 */
+	public int getX() { return myX; }
+	
+	/**
+	 * Get the top of the area.
+	 *
+	 * @return Top of the area.
+	 */
+	public int getY() { return myY; }
+	
+	/**
+	 * Get the width of the area.
+	 *
+	 * @return Width of the area.
+	 */
+	public int getWidth() { return myWidth; }
+	
+	/**
+	 * Get the width of the text.
+	 *
+	 * @return Width of the text in pixels, or 0 if the font is not available.
+	 */
+	public int getTextWidth() {
+		final G15Font font = mySize.getFont();
+		return (font == null) ? 0 : myText.length() * font.getWidth();
+	}
+	
+	/**
+	 * Check if the text is too wide for the area, and so scrolls.
+	 *
+	 * @return true if the text scrolls.
+	 */
+	public boolean isScrolling() {
+		return getTextWidth() > myWidth;
+	}
+	
+	/**
+	 * Get how far the text has scrolled.
+	 * The text repeats every getTextWidth()+getGap() pixels.
+	 *
+	 * @param now Current time from System.currentTimeMillis()
+	 * @return Number of pixels the text has scrolled to the left.
+	 */
+	public int getOffset(final long now) {
+		if (!isScrolling()) { return 0; }
+		final long elapsed = now - startTime - myPause;
+		if (elapsed <= 0) { return 0; }
+		return (int)((elapsed * mySpeed / 1000) % (getTextWidth() + myGap));
+	}
+	
+	/**
+	 * Get the rendered text, rendering it if needed.
+	 *
+	 * @return The rendered text, or null if the font is not available. This must
+	 *         not be modified.
+	 */
+	G15FrameBuffer getStrip() {
+		if (strip == null) {
+			final G15Font font = mySize.getFont();
+			if (font != null) {
+				strip = G15TextCache.render(font, myText);
+			}
+		}
+		return strip;
+	}
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2006-2008 Shane Mc Cormack
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SVN: $Id$
+ */
+package uk.org.dataforce.g15;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Wrapper that draws to an offscreen frame buffer.
+ * This needs no keyboard, daemon or display, so plugins can be run and
+ * profiled headless. Each committed frame can be passed to a FrameSink, to be
+ * written to a PBM file or kept in memory.
+ */
+public class G15OffscreenWrapper extends G15BufferedWrapper {
+	/** Something that is given each frame as it is committed. */
+	public interface FrameSink {
+		/**
+		 * Called when a new frame is committed.
+		 * The frame must not be modified, and is only valid until this returns.
+		 *
+		 * @param frame Frame that was committed
+		 * @param frameNumber Number of this frame, starting at 0
+		 * @throws IOException If the frame could not be handled
+		 */
+		void frameCommitted(G15FrameBuffer frame, long frameNumber) throws IOException;
+	}
+	
+	/**
+	 * FrameSink that writes frames to PBM files.
+	 * If the filename contains a format specifier (such as %05d) it is given
+	 * the frame number, so every frame is kept, otherwise the file is replaced
+	 * with each frame.
+	 */
+	public static class PBMFileSink implements FrameSink {
+		/** Filename (or format) to write to. */
+		private final String myFilename;
+		/** Buffer used to encode frames. */
+		private ByteBuffer buffer = null;
+		
+		/**
+		 * Create a new PBMFileSink.
+		 *
+		 * @param filename Filename to write to.
+		 */
+		public PBMFileSink(final String filename) {
+			myFilename = filename;
+		}
+		
+		/**
+		 * Write a frame to a file.
+		 *
+		 * @param frame Frame that was committed
+		 * @param frameNumber Number of this frame, starting at 0
+		 * @throws IOException If the file could not be written
+		 */
+		public void frameCommitted(final G15FrameBuffer frame, final long frameNumber) throws IOException {
+			if (buffer == null || buffer.capacity() < frame.getPBMSize()) {
+				buffer = ByteBuffer.allocate(frame.getPBMSize());
+			}
+			buffer.clear();
+			frame.encodePBM(buffer);
+			buffer.flip();
+			
+			final String filename = (myFilename.indexOf('%') >= 0) ? String.format(myFilename, frameNumber) : myFilename;
+			final FileOutputStream out = new FileOutputStream(filename);
+			try {
+				final FileChannel channel = out.getChannel();
+				while (buffer.hasRemaining()) {
+					channel.write(buffer);
+				}
+			} finally {
+				out.close();
+			}
+		}
+	}
+	
+	/**
+	 * FrameSink that keeps the most recent frames in memory.
+	 */
+	public static class MemorySink implements FrameSink {
+		/** Frames we have kept, oldest first. */
+		private final LinkedList<G15FrameBuffer> frames = new LinkedList<G15FrameBuffer>();
+		/** Most frames to keep. */
+		private final int myLimit;
+		
+		/**
+		 * Create a new MemorySink.
+		 *
+		 * @param limit Most frames to keep, older frames are discarded.
+		 */
+		public MemorySink(final int limit) {
+			myLimit = limit;
+		}
+		
+		/**
+		 * Keep a copy of a frame.
+		 *
+		 * @param frame Frame that was committed
+		 * @param frameNumber Number of this frame, starting at 0
+		 */
+		public synchronized void frameCommitted(final G15FrameBuffer frame, final long frameNumber) {
+			G15FrameBuffer copy = null;
+			if (frames.size() >= myLimit && !frames.isEmpty()) {
+				copy = frames.removeFirst();
+				copy.copyFrom(frame);
+			} else {
+				copy = new G15FrameBuffer(frame);
+			}
+			frames.addLast(copy);
+		}
+		
+		/**
+		 * Get the frames we have kept.
+		 *
+		 * @return Copy of the list of frames, oldest first.
+		 */
+		public synchronized List<G15FrameBuffer> getFrames() {
+			return new ArrayList<G15FrameBuffer>(frames);
+		}
+		
+		/**
+		 * Get the most recent frame.
+		 *
+		 * @return The most recent frame, or null if there are none.
+		 */
+		public synchronized G15FrameBuffer getLastFrame() {
+			return (frames.isEmpty()) ? null : frames.getLast();
+		}
+		
+		/**
+		 * Forget all the frames we have kept.
+		 */
+		public synchronized void clear() {
+			frames.clear();
+		}
+	}
+	
+	/** Where committed frames go, or null. */
+	private final FrameSink mySink;
+	/** Last frame committed, used to skip frames that have not changed. */
+	private final G15FrameBuffer lastFrame = new G15FrameBuffer(LCD_WIDTH, LCD_HEIGHT);
+	/** Has lastFrame been set yet? */
+	private boolean haveLastFrame = false;
+	/** Status of LEDs, one bit per LED. */
+	private int ledState = 0;
+	/** Last contrast level set. */
+	private int contrastLevel = -1;
+	/** Last brightness level set. */
+	private int brightnessLevel = -1;
+	
+	/**
+	 * Create a new G15OffscreenWrapper that does not send frames anywhere.
+	 */
+	public G15OffscreenWrapper() {
+		this(null);
+	}
+	
+	/**
+	 * Create a new G15OffscreenWrapper.
+	 *
+	 * @param sink Where committed frames should go, or null.
+	 */
+	public G15OffscreenWrapper(final FrameSink sink) {
+		mySink = sink;
+	}
+	
+	/**
+	 * Get the FrameSink for this wrapper.
+	 *
+	 * @return Where committed frames go, or null.
+	 */
+	public FrameSink getSink() {
+		return mySink;
+	}
+	
+	/**
+	 * Get the last frame committed.
+	 *
+	 * @return The last frame committed. This must not be modified.
+	 */
+	public G15FrameBuffer getLastFrame() {
+		return lastFrame;
+	}
+	
+	/**
+	 * Commit the current frame.
+	 * Nothing is done if the frame is the same as the last one.
+	 *
+	 * @throws java.io.IOException Throws this if the sink could not handle the frame
+	 */
+	protected void sendFrame() throws IOException {
+		if (haveLastFrame && frame.equals(lastFrame)) {
+			frameSuppressed();
+			return;
+		}
+		lastFrame.copyFrom(frame);
+		haveLastFrame = true;
+		final long frameNumber = getFramesSent();
+		frameSent();
+		if (mySink != null) {
+			mySink.frameCommitted(lastFrame, frameNumber);
+		}
+	}
+	
+	/**
+	 * Set the MX Light on/off.
+	 * There are no lights, so this just remembers the state.
+	 *
+	 * @param light Which light to set (0 = all, 1,2,3 = M1 M2 M3)
+	 * @param setOn true to turn on, false to turn off.
+	 */
+	public synchronized boolean setMXLight(int light, boolean setOn) {
+		for (int i = 0; i < 3; i++) {
+			if (light == 0 || light == (i+1)) {
+				if (setOn) {
+					ledState |= 1<<i;
+				} else {
+					ledState &= ~(1<<i);
+				}
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Get the state of the MX Lights.
+	 *
+	 * @return LED state, bit 0 is M1, bit 1 is M2 and bit 2 is M3.
+	 */
+	public synchronized int getLEDState() {
+		return ledState;
+	}
+	
+	/**
+	 * Set LCD Contrast Level.
+	 * There is no LCD, so this just remembers the level.
+	 *
+	 * @param level Contrast level, (0 1 or 2)
+	 */
+	public synchronized boolean setContrastLevel(int level) {
+		contrastLevel = level;
+		return true;
+	}
+	
+	/**
+	 * Get the LCD Contrast Level.
+	 *
+	 * @return Contrast level, or -1 if it has not been set.
+	 */
+	public synchronized int getContrastLevel() {
+		return contrastLevel;
+	}
+	
+	/**
+	 * Set LCD Brightness Level.
+	 * There is no LCD, so this just remembers the level.
+	 *
+	 * @param level Brightness level, (0 1 or 2)
+	 */
+	public synchronized boolean setBrightnessLevel(int level) {
+		brightnessLevel = level;
+		return true;
+	}
+	
+	/**
+	 * Get the LCD Brightness Level.
+	 *
+	 * @return Brightness level, or -1 if it has not been set.
+	 */
+	public synchronized int getBrightnessLevel() {
+		return brightnessLevel;
+	}
+
+	/**
+	 * Set screen to foreground or background
+	 *
+	 * @param position Position of screen
+	 */
+	public void screenPosition(G15ScreenPosition position) {
+
+	}
+}
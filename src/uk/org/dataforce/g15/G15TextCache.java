@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2006-2008 Shane Mc Cormack
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SVN: $Id$
+ */
+package uk.org.dataforce.g15;
+
+import uk.org.dataforce.g15.fonts.G15Font;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache of text rendered in the built-in fonts.
+ * Each entry is a G15FrameBuffer holding a whole line of text, ready to be
+ * drawn with G15FrameBuffer.drawBuffer(). The least recently used line is
+ * dropped when the cache is full.
+ *
+ * This is not thread safe, each wrapper has its own cache that is only used
+ * by the drawing thread.
+ */
+public class G15TextCache {
+	/** Key for a line of text in the cache. */
+	private static class Key {
+		/** Size of the text. */
+		FontSize mySize;
+		/** The text. */
+		String myText;
+		
+		/**
+		 * Create a new Key.
+		 *
+		 * @param size Size of the text
+		 * @param text The text
+		 */
+		Key(final FontSize size, final String text) {
+			mySize = size;
+			myText = text;
+		}
+		
+		/**
+		 * Check if this key is the same as another.
+		 *
+		 * @param obj Object to compare to
+		 * @return true if obj is a Key for the same size and text.
+		 */
+		public boolean equals(final Object obj) {
+			if (!(obj instanceof Key)) { return false; }
+			final Key other = (Key)obj;
+			return mySize == other.mySize && myText.equals(other.myText);
+		}
+		
+		/**
+		 * Get the hashcode of this key.
+		 *
+		 * @return hashcode of this key.
+		 */
+		public int hashCode() {
+			return mySize.ordinal() * 31 + myText.hashCode();
+		}
+	}
+	
+	/** Most lines to keep. */
+	private final int myCapacity;
+	/** Lines we have rendered. */
+	private final LinkedHashMap<Key, G15FrameBuffer> lines;
+	/**
+	 * Key used for lookups, so that a hit does not allocate.
+	 * It is never stored in the map.
+	 */
+	private final Key lookupKey = new Key(FontSize.SMALL, "");
+	/** Number of lookups that found a cached line. */
+	private long hits = 0;
+	/** Number of lookups that had to render the line. */
+	private long misses = 0;
+	
+	/**
+	 * Create a new G15TextCache.
+	 *
+	 * @param capacity Most lines to keep.
+	 */
+	public G15TextCache(final int capacity) {
+		myCapacity = capacity;
+		lines = new LinkedHashMap<Key, G15FrameBuffer>(16, 0.75f, true) {
+			/** Serial version. */
+			private static final long serialVersionUID = 1L;
+			
+			/**
+			 * Drop the least recently used line when there are too many.
+			 *
+			 * @param eldest Least recently used entry
+			 * @return true if eldest should be removed.
+			 */
+			protected boolean removeEldestEntry(final Map.Entry<Key, G15FrameBuffer> eldest) {
+				return size() > myCapacity;
+			}
+		};
+	}
+	
+	/**
+	 * Get a line of text, rendering it if it is not cached.
+	 *
+	 * @param size Size of the text
+	 * @param font Font for the size
+	 * @param text The text
+	 * @return The rendered text, width is the width of the text. This must not
+	 *         be modified.
+	 */
+	public G15FrameBuffer get(final FontSize size, final G15Font font, final String text) {
+		lookupKey.mySize = size;
+		lookupKey.myText = text;
+		G15FrameBuffer line = lines.get(lookupKey);
+		lookupKey.myText = "";
+		if (line != null) {
+			++hits;
+			return line;
+		}
+		
+		++misses;
+		line = render(font, text);
+		if (myCapacity > 0) {
+			lines.put(new Key(size, text), line);
+		}
+		return line;
+	}
+	
+	/**
+	 * Render a line of text.
+	 *
+	 * @param font Font to render with
+	 * @param text Text to render
+	 * @return The rendered text.
+	 */
+	static G15FrameBuffer render(final G15Font font, final String text) {
+		final int width = font.getWidth();
+		final int height = font.getHeight();
+		final int[] rows = font.getGlyphRows();
+		final G15FrameBuffer line = new G15FrameBuffer(text.length() * width, height);
+		for (int i = 0; i < text.length(); i++) {
+			// Characters not in the font are left white.
+			final int offset = font.getGlyphOffset(text.charAt(i));
+			if (offset >= 0) {
+				line.drawRows(width * i, 0, rows, offset, width, height);
+			}
+		}
+		return line;
+	}
+	
+	/**
+	 * Forget all the cached lines.
+	 */
+	public void clear() {
+		lines.clear();
+	}
+	
+	/**
+	 * Get the most lines this cache will keep.
+	 *
+	 * @return Capacity of the cache.
+	 */
+	public int getCapacity() { return myCapacity; }
+	
+	/**
+	 * Get the number of lines in the cache.
+	 *
+	 * @return Number of lines in the cache.
+	 */
+	public int size() { return lines.size(); }
+	
+	/**
+	 * Get the number of lookups that found a cached line.
+	 *
+	 * @return Number of hits.
+	 */
+	public long getHits() { return hits; }
+	
+	/**
+	 * Get the number of lookups that had to render the line.
+	 *
+	 * @return Number of misses.
+	 */
+	public long getMisses() { return misses; }
+}
@@ -23,8 +23,11 @@
  */
 package uk.org.dataforce.g15;
 
+import uk.org.dataforce.g15.fonts.G15Font;
+
 import java.awt.Point;
 import java.io.IOException;
+import java.util.ArrayList;
 
 /**
  * Base class for all LCD Wrappers.
@@ -35,13 +38,30 @@ public abstract class G15Wrapper {
 	protected static final int LCD_WIDTH = 160; // 0-159 (160)
 	protected static final int LCD_HEIGHT = 43; // 0-42 (43)
 	
+	/** Number of frames sent to the screen. */
+	private long framesSent = 0;
+	/** Number of frames not sent because nothing had changed. */
+	private long framesSuppressed = 0;
+	
+	/** How many frame transactions are currently open. */
+	private int frameDepth = 0;
+	/** Has draw() been called during the current frame transaction? */
+	private boolean framePending = false;
+	
+	/** Marquees that are kept moving by animate(). */
+	private final ArrayList<G15Marquee> marquees = new ArrayList<G15Marquee>();
+	
 	/** Get the width of the LCD. */
 	public static final int getWidth() { return LCD_WIDTH; }
 	
 	/** Get the Height of the LCD. */
 	public static final int getHeight() { return LCD_HEIGHT; }
 	
-	/** Get the point for the top-left of the screen */
+	/**
+	 * Get the point for the top-left of the screen.
+	 * These points are new each time, drawing code should use getWidth() and
+	 * getHeight() with the int drawing methods instead.
+	 */
 	public static final Point getTopLeftPoint() { return new Point(0, 0); }	
 	
 	/** Get the point for the top-right of the screen */
@@ -65,11 +85,111 @@ public abstract class G15Wrapper {
 	}
 	
 	/**
-	 * Draw to the screen
+	 * Record that a frame was sent to the screen.
+	 */
+	protected synchronized void frameSent() { ++framesSent; }
+	
+	/**
+	 * Record that a frame was not sent because it was the same as the last one.
+	 */
+	protected synchronized void frameSuppressed() { ++framesSuppressed; }
+	
+	/**
+	 * Get the number of frames sent to the screen.
+	 *
+	 * @return Number of frames sent.
+	 */
+	public synchronized long getFramesSent() { return framesSent; }
+	
+	/**
+	 * Get the number of frames that were not sent to the screen because they
+	 * were the same as the last frame sent.
+	 *
+	 * @return Number of frames suppressed.
+	 */
+	public synchronized long getFramesSuppressed() { return framesSuppressed; }
+	
+	/**
+	 * Start a frame transaction.
+	 * Until the matching commitFrame(), calls to draw() do not send anything to
+	 * the screen, so that only the complete frame is shown. Transactions can be
+	 * nested, in which case the frame is sent when the outermost one is
+	 * committed.
+	 * Frame transactions (like all drawing) must only be used from the drawing
+	 * thread.
+	 */
+	public void beginFrame() {
+		++frameDepth;
+	}
+	
+	/**
+	 * Finish a frame transaction.
+	 * If this is the outermost transaction and draw() was called during it, the
+	 * frame is sent to the screen.
+	 *
+	 * @return false if the frame could not be sent, else true.
+	 */
+	public boolean commitFrame() {
+		if (frameDepth > 0) { --frameDepth; }
+		if (frameDepth == 0 && framePending) {
+			framePending = false;
+			return silentDraw();
+		}
+		return true;
+	}
+	
+	/**
+	 * Send the frame now if draw() has been called during the current frame
+	 * transaction, without ending the transaction.
+	 * This is for when something slow is about to happen, and what has been
+	 * drawn so far should be shown first.
+	 *
+	 * @return false if the frame could not be sent, else true.
+	 */
+	public boolean flushFrame() {
+		if (framePending) {
+			framePending = false;
+			try {
+				sendFrame();
+			} catch (IOException e) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Draw to the screen.
+	 * If a frame transaction is open, this is deferred until it is committed.
+	 *
+	 * @throws java.io.IOException Throws this if the socket is not able to be written to
+	 */
+	public void draw() throws IOException {
+		if (frameDepth > 0) {
+			framePending = true;
+		} else {
+			sendFrame();
+		}
+	}
+	
+	/**
+	 * Send the current frame to the screen.
 	 *
 	 * @throws java.io.IOException Throws this if the socket is not able to be written to
 	 */
-	public abstract void draw() throws IOException;
+	protected abstract void sendFrame() throws IOException;
+	
+	/**
+	 * Wait until everything passed to draw() has been sent to the screen.
+	 * Wrappers that send frames from another thread should override this.
+	 */
+	public void flush() { }
+	
+	/**
+	 * Stop using the screen, and free anything held by this wrapper.
+	 * Wrappers that hold threads or connections should override this.
+	 */
+	public void close() { }
 	
 	/**
 	 * Draw to the screen without throwing an exception.
@@ -94,7 +214,20 @@ public abstract class G15Wrapper {
 	 * @param position G15Position to draw text (left, right, center)
 	 * @param text String[] of lines to draw
 	 */
-	public abstract void drawText(FontSize size, Point point, G15Position position, String[] text);
+	public void drawText(FontSize size, Point point, G15Position position, String[] text) {
+		drawText(size, point.x, point.y, position, text);
+	}
+	
+	/**
+	 * Draw a line of text to a specific position.
+	 *
+	 * @param size FontSize of text to draw.
+	 * @param x X of location to draw text
+	 * @param y Y of location to draw text
+	 * @param position G15Position to draw text (left, right, center)
+	 * @param text String[] of lines to draw
+	 */
+	public abstract void drawText(FontSize size, int x, int y, G15Position position, String[] text);
 	
 	/**
 	 * Draw a line of text in the default position.
@@ -112,7 +245,20 @@ public abstract class G15Wrapper {
 	 * @param position G15Position to draw text (left, right, center)
 	 * @param text line to draw
 	 */
-	public abstract void drawText(FontSize size, Point point, G15Position position, String text);
+	public void drawText(FontSize size, Point point, G15Position position, String text) {
+		drawText(size, point.x, point.y, position, text);
+	}
+	
+	/**
+	 * Draw a line of text to a specific position.
+	 *
+	 * @param size FontSize of text to draw.
+	 * @param x X of location to draw text
+	 * @param y Y of location to draw text
+	 * @param position G15Position to draw text (left, right, center)
+	 * @param text line to draw
+	 */
+	public abstract void drawText(FontSize size, int x, int y, G15Position position, String text);
 		
 	/**
 	 * Loads a font into a font slot.
@@ -133,7 +279,22 @@ public abstract class G15Wrapper {
 	 * @param position Position for text
 	 * @param text Text to output
 	 */
-	public abstract void drawFont(int fontSlot, int size, Point point, boolean isBlack, G15Position position, String text);
+	public void drawFont(int fontSlot, int size, Point point, boolean isBlack, G15Position position, String text) {
+		drawFont(fontSlot, size, point.x, point.y, isBlack, position, text);
+	}
+	
+	/**
+	 * Draw text using specified font
+	 *
+	 * @param fontSlot Font slot for font
+	 * @param size size of font
+	 * @param x X of location to draw text at
+	 * @param y Y of location to draw text at
+	 * @param isBlack True for bacl text, false for white
+	 * @param position Position for text
+	 * @param text Text to output
+	 */
+	public abstract void drawFont(int fontSlot, int size, int x, int y, boolean isBlack, G15Position position, String text);
 	
 	/**
 	 * Draw text using specified font
@@ -145,7 +306,22 @@ public abstract class G15Wrapper {
 	 * @param position Position for text
 	 * @param text Text to output
 	 */
-	public abstract void drawFont(int fontSlot, int size, Point point, boolean isBlack, G15Position position, String[] text);
+	public void drawFont(int fontSlot, int size, Point point, boolean isBlack, G15Position position, String[] text) {
+		drawFont(fontSlot, size, point.x, point.y, isBlack, position, text);
+	}
+	
+	/**
+	 * Draw text using specified font
+	 *
+	 * @param fontSlot Font slot for font
+	 * @param size size of font
+	 * @param x X of location to draw text at
+	 * @param y Y of location to draw text at
+	 * @param isBlack True for bacl text, false for white
+	 * @param position Position for text
+	 * @param text Text to output
+	 */
+	public abstract void drawFont(int fontSlot, int size, int x, int y, boolean isBlack, G15Position position, String[] text);
 	
 	/**
 	 * Draws a pixel image of the given Width and Height at the given point
@@ -155,7 +331,20 @@ public abstract class G15Wrapper {
 	 * @param height height of image
 	 * @param pixels String containing image as a string of 0's and 1's (0 = white, 1 = black)
 	 */
-	public abstract void drawPixels(Point point, int width, int height, String pixels);
+	public void drawPixels(Point point, int width, int height, String pixels) {
+		drawPixels(point.x, point.y, width, height, pixels);
+	}
+	
+	/**
+	 * Draws a pixel image of the given Width and Height at the given point
+	 *
+	 * @param x X of location to draw image
+	 * @param y Y of location to draw image
+	 * @param width Width of image
+	 * @param height height of image
+	 * @param pixels String containing image as a string of 0's and 1's (0 = white, 1 = black)
+	 */
+	public abstract void drawPixels(int x, int y, int width, int height, String pixels);
 	
 	/**
 	 * Draws a pixel image of the given PixelImage
@@ -163,7 +352,127 @@ public abstract class G15Wrapper {
 	 * @param point Location to draw image
 	 * @param PixelImage PixelImage to draw.
 	 */
-	public abstract void drawPixels(Point point, PixelImage image);
+	public void drawPixels(Point point, PixelImage image) {
+		drawPixels(point.x, point.y, image);
+	}
+	
+	/**
+	 * Draws a pixel image of the given PixelImage
+	 *
+	 * @param x X of location to draw image
+	 * @param y Y of location to draw image
+	 * @param PixelImage PixelImage to draw.
+	 */
+	public abstract void drawPixels(int x, int y, PixelImage image);
+	
+	/**
+	 * Draw a single character from a G15Font, such as a Font_BigNumber digit.
+	 * By default this draws the pixels of the character with drawPixels.
+	 *
+	 * @param point Location to draw the character
+	 * @param font Font to draw with
+	 * @param character Character to draw
+	 */
+	public void drawGlyph(Point point, G15Font font, int character) {
+		drawGlyph(point.x, point.y, font, character);
+	}
+	
+	/**
+	 * Draw a single character from a G15Font, such as a Font_BigNumber digit.
+	 * By default this draws the pixels of the character with drawPixels.
+	 *
+	 * @param x X of location to draw the character
+	 * @param y Y of location to draw the character
+	 * @param font Font to draw with
+	 * @param character Character to draw
+	 */
+	public void drawGlyph(int x, int y, G15Font font, int character) {
+		drawPixels(x, y, font.getWidth(), font.getHeight(), font.getPixels(character));
+	}
+	
+	/**
+	 * Draw a marquee, and keep it moving until stopMarquees() is called.
+	 * This should be called every redraw, so that the marquee is drawn over
+	 * anything else the redraw puts in its area.
+	 *
+	 * @param marquee Marquee to draw
+	 */
+	public void drawMarquee(final G15Marquee marquee) {
+		if (!marquees.contains(marquee)) { marquees.add(marquee); }
+		marquee.lastOffset = -1;
+		updateMarquee(marquee, System.currentTimeMillis());
+	}
+	
+	/**
+	 * Stop moving all the marquees drawn with drawMarquee().
+	 * Nothing is drawn, the marquees are just left where they are.
+	 */
+	public void stopMarquees() {
+		marquees.clear();
+	}
+	
+	/**
+	 * Move the marquees drawn with drawMarquee(), and draw the screen if any
+	 * of them moved.
+	 * This is called from the animation timer, so should be cheap when nothing
+	 * has moved.
+	 *
+	 * @return true if anything was drawn, else false.
+	 */
+	public boolean animate() {
+		if (marquees.isEmpty()) { return false; }
+		final long now = System.currentTimeMillis();
+		boolean moved = false;
+		for (G15Marquee marquee : marquees) {
+			if (updateMarquee(marquee, now)) { moved = true; }
+		}
+		if (moved) { silentDraw(); }
+		return moved;
+	}
+	
+	/**
+	 * Draw a marquee if it has moved since it was last drawn.
+	 * By default this scrolls a whole character at a time using drawText, so
+	 * that it works with any wrapper.
+	 *
+	 * @param marquee Marquee to draw
+	 * @param now Current time from System.currentTimeMillis()
+	 * @return true if the marquee was drawn, else false.
+	 */
+	protected boolean updateMarquee(final G15Marquee marquee, final long now) {
+		final G15Font font = marquee.getSize().getFont();
+		if (font == null) { return false; }
+		final int charWidth = font.getWidth();
+		final int offset = marquee.getOffset(now) / charWidth;
+		if (offset == marquee.lastOffset) { return false; }
+		marquee.lastOffset = offset;
+		
+		final String text = marquee.getText();
+		final int chars = marquee.getWidth() / charWidth;
+		final StringBuilder line = new StringBuilder(chars);
+		if (marquee.isScrolling()) {
+			final int gapChars = (marquee.getGap() + charWidth - 1) / charWidth;
+			final int length = text.length() + gapChars;
+			for (int i = 0; i < chars; ++i) {
+				final int pos = (offset + i) % length;
+				line.append((pos < text.length()) ? text.charAt(pos) : ' ');
+			}
+		} else {
+			int padding = 0;
+			if (marquee.getPosition() == G15Position.CENTER) {
+				padding = (chars - text.length()) / 2;
+			} else if (marquee.getPosition() == G15Position.RIGHT) {
+				padding = chars - text.length();
+			}
+			for (int i = 0; i < padding; ++i) { line.append(' '); }
+			line.append(text);
+		}
+		
+		// fillArea includes x2 here (the composer's PF does), so stop at the last column.
+		fillArea(marquee.getX(), marquee.getY(), marquee.getX() + marquee.getWidth() - 1, marquee.getY() + font.getHeight() - 1, false);
+		drawText(marquee.getSize(), marquee.getX(), marquee.getY(), G15Position.LEFT, line.toString());
+		return true;
+	}
 	
 	/**
 	 * Set the colour of the pixel at a given point
@@ -171,7 +480,18 @@ public abstract class G15Wrapper {
 	 * @param point Point to set pixel at
 	 * @param isBlack True to set to black, false to set to white
 	 */
-	public abstract void setPixelColour(Point point, boolean isBlack);
+	public void setPixelColour(Point point, boolean isBlack) {
+		setPixelColour(point.x, point.y, isBlack);
+	}
+	
+	/**
+	 * Set the colour of the pixel at a given point
+	 *
+	 * @param x X of point to set pixel at
+	 * @param y Y of point to set pixel at
+	 * @param isBlack True to set to black, false to set to white
+	 */
+	public abstract void setPixelColour(int x, int y, boolean isBlack);
 	
 	/**
 	 * Clear the screen and set it all to a specified colour
@@ -187,7 +507,20 @@ public abstract class G15Wrapper {
 	 * @param point2 Point to finish at for area
 	 * @param isBlack True to set to black, false to set to white
 	 */
-	public abstract void fillArea(Point point1, Point point2, boolean isBlack);
+	public void fillArea(Point point1, Point point2, boolean isBlack) {
+		fillArea(point1.x, point1.y, point2.x, point2.y, isBlack);
+	}
+	
+	/**
+	 * Fill a specified area in either white or black
+	 *
+	 * @param x1 X of point to start at for area
+	 * @param y1 Y of point to start at for area
+	 * @param x2 X of point to finish at for area
+	 * @param y2 Y of point to finish at for area
+	 * @param isBlack True to set to black, false to set to white
+	 */
+	public abstract void fillArea(int x1, int y1, int x2, int y2, boolean isBlack);
 	
 	/**
 	 * Reverse all the pixels in a specific area
@@ -195,7 +528,19 @@ public abstract class G15Wrapper {
 	 * @param point1 Point to start at for area
 	 * @param point2 Point to finish at for area
 	 */
-	public abstract void reversePixels(Point point1, Point point2);
+	public void reversePixels(Point point1, Point point2) {
+		reversePixels(point1.x, point1.y, point2.x, point2.y);
+	}
+	
+	/**
+	 * Reverse all the pixels in a specific area
+	 *
+	 * @param x1 X of point to start at for area
+	 * @param y1 Y of point to start at for area
+	 * @param x2 X of point to finish at for area
+	 * @param y2 Y of point to finish at for area
+	 */
+	public abstract void reversePixels(int x1, int y1, int x2, int y2);
 	
 	/**
 	 * Draw a box
@@ -205,7 +550,21 @@ public abstract class G15Wrapper {
 	 * @param isBlack True to set to black, false to set to white
 	 * @param thickness Thickness of line
 	 */
-	public abstract void drawBox(Point point1, Point point2, boolean isBlack, int thickness);
+	public void drawBox(Point point1, Point point2, boolean isBlack, int thickness) {
+		drawBox(point1.x, point1.y, point2.x, point2.y, isBlack, thickness);
+	}
+	
+	/**
+	 * Draw a box
+	 *
+	 * @param x1 X of point to start at for area
+	 * @param y1 Y of point to start at for area
+	 * @param x2 X of point to finish at for area
+	 * @param y2 Y of point to finish at for area
+	 * @param isBlack True to set to black, false to set to white
+	 * @param thickness Thickness of line
+	 */
+	public abstract void drawBox(int x1, int y1, int x2, int y2, boolean isBlack, int thickness);
 	
 	/**
 	 * Draw a line
@@ -214,7 +573,20 @@ public abstract class G15Wrapper {
 	 * @param point2 Point to finish at for line
 	 * @param isBlack True to set to black, false to set to white
 	 */
-	public abstract void drawLine(Point point1, Point point2, boolean isBlack);
+	public void drawLine(Point point1, Point point2, boolean isBlack) {
+		drawLine(point1.x, point1.y, point2.x, point2.y, isBlack);
+	}
+	
+	/**
+	 * Draw a line
+	 *
+	 * @param x1 X of point to start at for line
+	 * @param y1 Y of point to start at for line
+	 * @param x2 X of point to finish at for line
+	 * @param y2 Y of point to finish at for line
+	 * @param isBlack True to set to black, false to set to white
+	 */
+	public abstract void drawLine(int x1, int y1, int x2, int y2, boolean isBlack);
 	
 	/**
 	 * Draw a circle
@@ -224,7 +596,20 @@ public abstract class G15Wrapper {
 	 * @param isBlack True to set to black, false to set to white
 	 * @param filled Is the circle filled or not
 	 */
-	public abstract void drawCircle(Point center, int radius, boolean isBlack, boolean filled);
+	public void drawCircle(Point center, int radius, boolean isBlack, boolean filled) {
+		drawCircle(center.x, center.y, radius, isBlack, filled);
+	}
+	
+	/**
+	 * Draw a circle
+	 *
+	 * @param x X of center point
+	 * @param y Y of center point
+	 * @param radius Radius of circle
+	 * @param isBlack True to set to black, false to set to white
+	 * @param filled Is the circle filled or not
+	 */
+	public abstract void drawCircle(int x, int y, int radius, boolean isBlack, boolean filled);
 	
 	/**
 	 * Draw a rounded box
@@ -234,7 +619,21 @@ public abstract class G15Wrapper {
 	 * @param isBlack True to set to black, false to set to white
 	 * @param filled Is the box filled or not
 	 */
-	public abstract void drawRoundedBox(Point point1, Point point2, boolean isBlack, boolean filled);
+	public void drawRoundedBox(Point point1, Point point2, boolean isBlack, boolean filled) {
+		drawRoundedBox(point1.x, point1.y, point2.x, point2.y, isBlack, filled);
+	}
+	
+	/**
+	 * Draw a rounded box
+	 *
+	 * @param x1 X of point to start at for area
+	 * @param y1 Y of point to start at for area
+	 * @param x2 X of point to finish at for area
+	 * @param y2 Y of point to finish at for area
+	 * @param isBlack True to set to black, false to set to white
+	 * @param filled Is the box filled or not
+	 */
+	public abstract void drawRoundedBox(int x1, int y1, int x2, int y2, boolean isBlack, boolean filled);
 	
 	/**
 	 * Draw a progress bar
@@ -246,7 +645,68 @@ public abstract class G15Wrapper {
 	 * @param maxPosition Max Position of the bar
 	 * @param barType Type of progress bar
 	 */
-	public abstract void drawProgressBar(Point point1, Point point2, boolean isBlack, int position, int maxPosition, ProgressBarType barType);
+	public void drawProgressBar(Point point1, Point point2, boolean isBlack, int position, int maxPosition, ProgressBarType barType) {
+		drawProgressBar(point1.x, point1.y, point2.x, point2.y, isBlack, position, maxPosition, barType);
+	}
+	
+	/**
+	 * Draw a progress bar
+	 *
+	 * @param x1 X of point to start at
+	 * @param y1 Y of point to start at
+	 * @param x2 X of point to finish at
+	 * @param y2 Y of point to finish at
+	 * @param isBlack True to set to black, false to set to white
+	 * @param position Position of the bar
+	 * @param maxPosition Max Position of the bar
+	 * @param barType Type of progress bar
+	 */
+	public abstract void drawProgressBar(int x1, int y1, int x2, int y2, boolean isBlack, int position, int maxPosition, ProgressBarType barType);
+	
+	/**
+	 * Update a progress bar that is already on the screen.
+	 * The bar must have been drawn by drawProgressBar with the same area, colour
+	 * and type, and with a fill length of oldLength. Only the columns between
+	 * the old and new fill lengths are changed, the outline is left alone.
+	 * Wrappers that can't do this return false, and the bar must then be drawn
+	 * again in full.
+	 *
+	 * @param x1 X of point to start at
+	 * @param y1 Y of point to start at
+	 * @param x2 X of point to finish at
+	 * @param y2 Y of point to finish at
+	 * @param isBlack True to set to black, false to set to white
+	 * @param oldLength Fill length the bar was last drawn with
+	 * @param newLength Fill length to draw, from getProgressBarLength
+	 * @param barType Type of progress bar
+	 * @return true if the bar was updated, false if it needs drawing again.
+	 */
+	public boolean updateProgressBar(int x1, int y1, int x2, int y2, boolean isBlack, int oldLength, int newLength, ProgressBarType barType) {
+		return false;
+	}
+	
+	/**
+	 * Get the number of columns a progress bar is filled for a given position.
+	 * This is rounded to the nearest column, with a slight bias to rounding up
+	 * as the old floating point version had.
+	 *
+	 * @param x1 X of point the bar starts at
+	 * @param x2 X of point the bar finishes at
+	 * @param position Position of the bar
+	 * @param maxPosition Max Position of the bar
+	 * @return Fill length of the bar, 0 if maxPosition is not positive.
+	 */
+	public static int getProgressBarLength(final int x1, final int x2, final int position, final int maxPosition) {
+		if (maxPosition <= 0) { return 0; }
+		final long scaled = 100L * (x2 - (x1 + 1)) * position + 51L * maxPosition;
+		final long divisor = 100L * maxPosition;
+		long length = scaled / divisor;
+		if (scaled < 0 && scaled % divisor != 0) {
+			// Division rounds towards 0, we need to round down.
+			--length;
+		}
+		return (int)length;
+	}
 	
 	/**
 	 * Set screen to foreground or background
@@ -23,7 +23,6 @@
  */
 package uk.org.dataforce.g15;
 import java.io.IOException;
-import java.awt.Point;
 
 /**
  * Windows commands for LCD Drawing.
@@ -31,11 +30,11 @@ import java.awt.Point;
  */
 public class G15WrapperWindows extends G15Wrapper {
 	/**
-	 * Draw to the screen
+	 * Send the current frame to the screen.
 	 *
 	 * @throws java.io.IOException Throws this if the socket is not able to be written to
 	 */
-	public void draw() throws IOException { /* Not Implemented */ }
+	protected void sendFrame() throws IOException { /* Not Implemented */ }
 
 	/**
 	 * Draw to the screen without throwing an exception.
@@ -71,21 +70,23 @@ public class G15WrapperWindows extends G15Wrapper {
 	 * Draw a line of text to a specific position.
 	 *
 	 * @param size FontSize of text to draw.
-	 * @param point Location to draw text
+	 * @param x X of location to draw text
+	 * @param y Y of location to draw text
 	 * @param position G15Position to draw text (left, right, center)
 	 * @param text String[] of lines to draw
 	 */
-	public void drawText(FontSize size, Point point, G15Position position, String[] text) { /* Not Implemented */ }
+	public void drawText(FontSize size, int x, int y, G15Position position, String[] text) { /* Not Implemented */ }
 	
 	/**
 	 * Draw a line of text to a specific position.
 	 *
 	 * @param size FontSize of text to draw.
-	 * @param point Location to draw text
+	 * @param x X of location to draw text
+	 * @param y Y of location to draw text
 	 * @param position G15Position to draw text (left, right, center)
 	 * @param text String of line to draw
 	 */
-	public void drawText(FontSize size, Point point, G15Position position, String text) { /* Not Implemented */ }
+	public void drawText(FontSize size, int x, int y, G15Position position, String text) { /* Not Implemented */ }
 		
 	/**
 	 * Loads a font into a font slot.
@@ -101,52 +102,57 @@ public class G15WrapperWindows extends G15Wrapper {
 	 *
 	 * @param fontSlot Font slot for font
 	 * @param size size of font
-	 * @param point location to draw text at
+	 * @param x X of location to draw text at
+	 * @param y Y of location to draw text at
 	 * @param isBlack True for bacl text, false for white
 	 * @param position Position for text
 	 * @param text Text to output
 	 */
-	public void drawFont(int fontSlot, int size, Point point, boolean isBlack, G15Position position, String text) { /* Not Implemented */ }
+	public void drawFont(int fontSlot, int size, int x, int y, boolean isBlack, G15Position position, String text) { /* Not Implemented */ }
 	
 	/**
 	 * Draw text using specified font
 	 *
 	 * @param fontSlot Font slot for font
 	 * @param size size of font
-	 * @param point location to draw text at
+	 * @param x X of location to draw text at
+	 * @param y Y of location to draw text at
 	 * @param isBlack True for bacl text, false for white
 	 * @param position Position for text
 	 * @param text Text to output
 	 */
-	public void drawFont(int fontSlot, int size, Point point, boolean isBlack, G15Position position, String[] text) { /* Not Implemented */ }
+	public void drawFont(int fontSlot, int size, int x, int y, boolean isBlack, G15Position position, String[] text) { /* Not Implemented */ }
 	
 	/**
 	 * Draws a pixel image of the given Width and Height at the given point
 	 *
-	 * @param point Location to draw image
+	 * @param x X of location to draw image
+	 * @param y Y of location to draw image
 	 * @param width Width of image
 	 * @param height height of image
 	 * @param pixels String containing image as a string of 0's and 1's (0 = white, 1 = black)
 	 */
-	public void drawPixels(Point point, int width, int height, String pixels) { /* Not Implemented */ }
+	public void drawPixels(int x, int y, int width, int height, String pixels) { /* Not Implemented */ }
 	
 	/**
 	 * Draws a pixel image of the given PixelImage
 	 *
-	 * @param point Location to draw image
+	 * @param x X of location to draw image
+	 * @param y Y of location to draw image
 	 * @param PixelImage PixelImage to draw.
 	 */
-	public void drawPixels(Point point, PixelImage image) {
-		drawPixels(point, image.width(), image.height(), image.toString());
+	public void drawPixels(int x, int y, PixelImage image) {
+		drawPixels(x, y, image.width(), image.height(), image.toString());
 	}
 	
 	/**
 	 * Set the colour of the pixel at a given point
 	 *
-	 * @param point Point to set pixel at
+	 * @param x X of point to set pixel at
+	 * @param y Y of point to set pixel at
 	 * @param isBlack True to set to black, false to set to white
 	 */
-	public void setPixelColour(Point point, boolean isBlack) { /* Not Implemented */ }
+	public void setPixelColour(int x, int y, boolean isBlack) { /* Not Implemented */ }
 	
 	/**
 	 * Clear the screen and set it all to a specified colour
@@ -158,70 +164,83 @@ public class G15WrapperWindows extends G15Wrapper {
 	/**
 	 * Fill a specified area in either white or black
 	 *
-	 * @param point1 Point to start at for area
-	 * @param point2 Point to finish at for area
+	 * @param x1 X of point to start at for area
+	 * @param y1 Y of point to start at for area
+	 * @param x2 X of point to finish at for area
+	 * @param y2 Y of point to finish at for area
 	 * @param isBlack True to set to black, false to set to white
 	 */
-	public void fillArea(Point point1, Point point2, boolean isBlack) { /* Not Implemented */ }
+	public void fillArea(int x1, int y1, int x2, int y2, boolean isBlack) { /* Not Implemented */ }
 	
 	/**
 	 * Reverse all the pixels in a specific area
 	 *
-	 * @param point1 Point to start at for area
-	 * @param point2 Point to finish at for area
+	 * @param x1 X of point to start at for area
+	 * @param y1 Y of point to start at for area
+	 * @param x2 X of point to finish at for area
+	 * @param y2 Y of point to finish at for area
 	 */
-	public void reversePixels(Point point1, Point point2) { /* Not Implemented */ }
+	public void reversePixels(int x1, int y1, int x2, int y2) { /* Not Implemented */ }
 	
 	/**
 	 * Draw a box
 	 *
-	 * @param point1 Point to start at for area
-	 * @param point2 Point to finish at for area
+	 * @param x1 X of point to start at for area
+	 * @param y1 Y of point to start at for area
+	 * @param x2 X of point to finish at for area
+	 * @param y2 Y of point to finish at for area
 	 * @param isBlack True to set to black, false to set to white
 	 * @param thickness Thickness of line
 	 */
-	public void drawBox(Point point1, Point point2, boolean isBlack, int thickness) { /* Not Implemented */ }
+	public void drawBox(int x1, int y1, int x2, int y2, boolean isBlack, int thickness) { /* Not Implemented */ }
 	
 	/**
 	 * Draw a line
 	 *
-	 * @param point1 Point to start at for line
-	 * @param point2 Point to finish at for line
+	 * @param x1 X of point to start at for line
+	 * @param y1 Y of point to start at for line
+	 * @param x2 X of point to finish at for line
+	 * @param y2 Y of point to finish at for line
 	 * @param isBlack True to set to black, false to set to white
 	 */
-	public void drawLine(Point point1, Point point2, boolean isBlack) { /* Not Implemented */ }
+	public void drawLine(int x1, int y1, int x2, int y2, boolean isBlack) { /* Not Implemented */ }
 	
 	/**
 	 * Draw a circle
 	 *
-	 * @param center Center Point
+	 * @param x X of center point
+	 * @param y Y of center point
 	 * @param radius Radius of circle
 	 * @param isBlack True to set to black, false to set to white
 	 * @param filled Is the circle filled or not
 	 */
-	public void drawCircle(Point center, int radius, boolean isBlack, boolean filled) { /* Not Implemented */ }
+	public void drawCircle(int x, int y, int radius, boolean isBlack, boolean filled) { /* Not Implemented */ }
 	
 	/**
 	 * Draw a rounded box
 	 *
-	 * @param point1 Point to start at for area
-	 * @param point2 Point to finish at for area
+	 * @param x1 X of point to start at for area
+	 * @param y1 Y of point to start at for area
+	 * @param x2 X of point to finish at for area
+	 * @param y2 Y of point to finish at for area
 	 * @param isBlack True to set to black, false to set to white
 	 * @param filled Is the box filled or not
 	 */
-	public void drawRoundedBox(Point point1, Point point2, boolean isBlack, boolean filled) { /* Not Implemented */ }
+	public void drawRoundedBox(int x1, int y1, int x2, int y2, boolean isBlack, boolean filled) { /* Not Implemented */ }
 	
 	/**
 	 * Draw a progress bar
 	 *
-	 * @param point1 Point to start at
-	 * @param point2 point to finish at
+	 * @param x1 X of point to start at
+	 * @param y1 Y of point to start at
+	 * @param x2 X of point to finish at
+	 * @param y2 Y of point to finish at
 	 * @param isBlack True to set to black, false to set to white
 	 * @param position Position of the bar
 	 * @param maxPosition Max Position of the bar
 	 * @param barType Type of progress bar
 	 */
-	public void drawProgressBar(Point point1, Point point2, boolean isBlack, int position, int maxPosition, ProgressBarType barType) { /* Not Implemented */ }
+	public void drawProgressBar(int x1, int y1, int x2, int y2, boolean isBlack, int position, int maxPosition, ProgressBarType barType) { /* Not Implemented */ }
 	
 	/**
 	 * Set the MX Light on/off.
@@ -23,29 +23,266 @@
  */
 package uk.org.dataforce.g15;
 
+import java.io.IOException;
+
 /**
  * Represents a Pixel-Based image for drawing using drawPixels.
+ * The pixels are packed one bit per pixel into a G15FrameBuffer when the image
+ * is created, so drawing an image is a copy of whole words rather than a walk
+ * over a String.
+ * PixelImages are immutable, and so can be created once and drawn every frame.
  */
 public class PixelImage {
 	/** My Width */
-	int myWidth;
+	final int myWidth;
 
 	/** My Height */
-	int myHeight;
+	final int myHeight;
+
+	/** My Pixels */
+	private final G15FrameBuffer myPixels;
 
-	/** My Image */
-	String myImage;
+	/** My Image as a String of 0s and 1s, made the first time it is needed. */
+	private String myImage;
 
-	/** Create a new PixelImage. */
-	public PixelImage(int width, int height, String image) {
+	/**
+	 * Create a new PixelImage from a String of pixels.
+	 * Each character is a pixel, left to right then top to bottom, with '0'
+	 * being a white pixel and anything else being black.
+	 *
+	 * @param width Width of the image
+	 * @param height Height of the image
+	 * @param image String of width*height pixels
+	 */
+	public PixelImage(final int width, final int height, final String image) {
 		if (image.length() < (width*height)) {
 			System.out.println("[PixelImage] Not enough pixels given.");
 		} else if (image.length() > (width*height)) {
 			System.out.println("[PixelImage] Recieved more pixels than space to draw.");
+		} else {
+			myImage = image;
+		}
+		myWidth = width;
+		myHeight = height;
+		myPixels = new G15FrameBuffer(width, height);
+		final int length = Math.min(image.length(), width*height);
+		for (int i = 0; i < length; ++i) {
+			final char pixel = image.charAt(i);
+			if (pixel != 0 && pixel != '0') {
+				myPixels.setPixel(i % width, i / width, true);
+			}
+		}
+	}
+
+	/**
+	 * Create a new PixelImage from packed rows.
+	 * Each row is (width+7)/8 bytes, left-most pixel in the most significant
+	 * bit, with a set bit being a black pixel. This is the raster format of a
+	 * binary PBM file.
+	 *
+	 * @param width Width of the image
+	 * @param height Height of the image
+	 * @param data Packed rows
+	 * @throws IllegalArgumentException If data is too short for the image
+	 */
+	public PixelImage(final int width, final int height, final byte[] data) {
+		this(width, height, data, 0);
+	}
+
+	/**
+	 * Create a new PixelImage from packed rows.
+	 *
+	 * @param width Width of the image
+	 * @param height Height of the image
+	 * @param data Packed rows
+	 * @param offset Offset of the first row in data
+	 * @throws IllegalArgumentException If data is too short for the image
+	 */
+	private PixelImage(final int width, final int height, final byte[] data, final int offset) {
+		final int stride = (width + 7) >> 3;
+		if (width < 0 || height < 0 || data.length - offset < stride * height) {
+			throw new IllegalArgumentException("Not enough pixels given for a "+width+"x"+height+" image");
 		}
 		myWidth = width;
 		myHeight = height;
-		myImage = image;
+		myPixels = new G15FrameBuffer(width, height);
+		for (int y = 0; y < height; ++y) {
+			final int row = offset + y * stride;
+			for (int x = 0; x < width; ++x) {
+				if ((data[row + (x >> 3)] & (0x80 >> (x & 7))) != 0) {
+					myPixels.setPixel(x, y, true);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Create a new PixelImage from the contents of a PBM file.
+	 * Both the plain (P1) and binary (P4) formats are supported.
+	 *
+	 * @param data Contents of the file
+	 * @return The image
+	 * @throws IOException If the data is not a valid PBM file
+	 */
+	public static PixelImage fromPBM(final byte[] data) throws IOException {
+		final int[] pos = new int[1];
+		final String magic = nextPBMToken(data, pos);
+		if (!"P1".equals(magic) && !"P4".equals(magic)) {
+			throw new IOException("Not a PBM file");
+		}
+		final int width = parseSize(nextPBMToken(data, pos));
+		final int height = parseSize(nextPBMToken(data, pos));
+
+		if ("P4".equals(magic)) {
+			// A single whitespace character seperates the header from the raster
+			try {
+				return new PixelImage(width, height, data, pos[0] + 1);
+			} catch (IllegalArgumentException iae) {
+				throw new IOException("PBM file is truncated");
+			}
+		}
+
+		final int stride = (width + 7) >> 3;
+		final byte[] rows = new byte[stride * height];
+		for (int i = 0; i < width * height; ++i) {
+			while (pos[0] < data.length && data[pos[0]] != '0' && data[pos[0]] != '1') {
+				if (data[pos[0]] == '#') {
+					skipComment(data, pos);
+				} else if (Character.isWhitespace((char)data[pos[0]])) {
+					pos[0]++;
+				} else {
+					throw new IOException("Invalid pixel in PBM file");
+				}
+			}
+			if (pos[0] >= data.length) {
+				throw new IOException("PBM file is truncated");
+			}
+			if (data[pos[0]++] == '1') {
+				final int x = i % width;
+				rows[(i / width) * stride + (x >> 3)] |= 0x80 >> (x & 7);
+			}
+		}
+		return new PixelImage(width, height, rows, 0);
+	}
+
+	/**
+	 * Create a new PixelImage from the contents of an XBM file.
+	 *
+	 * @param data Contents of the file
+	 * @return The image
+	 * @throws IOException If the data is not a valid XBM file
+	 */
+	public static PixelImage fromXBM(final byte[] data) throws IOException {
+		final String text = new String(data, "US-ASCII");
+		final int width = parseSize(getXBMDefine(text, "_width"));
+		final int height = parseSize(getXBMDefine(text, "_height"));
+
+		final int start = text.indexOf('{');
+		final int end = text.indexOf('}', start + 1);
+		if (start == -1 || end == -1) {
+			throw new IOException("No pixel data in XBM file");
+		}
+		final String[] values = text.substring(start + 1, end).split(",");
+		final int stride = (width + 7) >> 3;
+		final byte[] rows = new byte[stride * height];
+		int count = 0;
+		for (String value : values) {
+			value = value.trim();
+			if (value.length() == 0) { continue; }
+			if (count >= rows.length) {
+				throw new IOException("Too many bytes in XBM file");
+			}
+			final int bits;
+			try {
+				bits = value.startsWith("0x") || value.startsWith("0X") ? Integer.parseInt(value.substring(2), 16) : Integer.parseInt(value);
+			} catch (NumberFormatException nfe) {
+				throw new IOException("Invalid byte in XBM file: "+value);
+			}
+			// XBM has the left-most pixel in the least significant bit.
+			rows[count++] = (byte)(Integer.reverse(bits) >>> 24);
+		}
+		if (count < rows.length) {
+			throw new IOException("XBM file is truncated");
+		}
+		return new PixelImage(width, height, rows, 0);
+	}
+
+	/**
+	 * Get the next token from a PBM header, skipping whitespace and comments.
+	 *
+	 * @param data Contents of the file
+	 * @param pos Single element array holding the position to read from, this
+	 *            is left on the character after the token.
+	 * @return The token
+	 * @throws IOException If the end of the data is reached first
+	 */
+	private static String nextPBMToken(final byte[] data, final int[] pos) throws IOException {
+		while (pos[0] < data.length) {
+			if (data[pos[0]] == '#') {
+				skipComment(data, pos);
+			} else if (Character.isWhitespace((char)data[pos[0]])) {
+				pos[0]++;
+			} else {
+				break;
+			}
+		}
+		final StringBuilder token = new StringBuilder();
+		while (pos[0] < data.length && data[pos[0]] != '#' && !Character.isWhitespace((char)data[pos[0]])) {
+			token.append((char)data[pos[0]++]);
+		}
+		if (token.length() == 0) {
+			throw new IOException("PBM header is truncated");
+		}
+		return token.toString();
+	}
+
+	/**
+	 * Skip a PBM comment, which runs to the end of the line.
+	 *
+	 * @param data Contents of the file
+	 * @param pos Single element array holding the position of the '#'
+	 */
+	private static void skipComment(final byte[] data, final int[] pos) {
+		while (pos[0] < data.length && data[pos[0]] != '\n' && data[pos[0]] != '\r') {
+			pos[0]++;
+		}
+	}
+
+	/**
+	 * Get the value of a "#define name_suffix value" line in an XBM file.
+	 *
+	 * @param text Contents of the file
+	 * @param suffix Suffix of the define, such as "_width"
+	 * @return The value
+	 * @throws IOException If there is no such define
+	 */
+	private static String getXBMDefine(final String text, final String suffix) throws IOException {
+		for (String line : text.split("\n")) {
+			final String[] bits = line.trim().split("\\s+");
+			if (bits.length == 3 && bits[0].equals("#define") && bits[1].endsWith(suffix)) {
+				return bits[2];
+			}
+		}
+		throw new IOException("No "+suffix+" in XBM file");
+	}
+
+	/**
+	 * Parse an image width or height.
+	 *
+	 * @param value Value to parse
+	 * @return The size
+	 * @throws IOException If the value is not a valid size
+	 */
+	private static int parseSize(final String value) throws IOException {
+		try {
+			final int size = Integer.parseInt(value);
+			if (size >= 0 && size <= 4096) {
+				return size;
+			}
+		} catch (NumberFormatException nfe) {
+			/* Handled below */
+		}
+		throw new IOException("Invalid image size: "+value);
 	}
 
 	/**
@@ -62,10 +299,38 @@ public class PixelImage {
 	 */
 	public int height() { return myHeight; }
 
+	/**
+	 * Get the colour of a pixel.
+	 *
+	 * @param x X position
+	 * @param y Y position
+	 * @return true if the pixel is black, false if white or outside the image
+	 */
+	public boolean getPixel(final int x, final int y) { return myPixels.getPixel(x, y); }
+
+	/**
+	 * Get the packed pixels of this image.
+	 * This must not be modified.
+	 *
+	 * @return G15FrameBuffer holding the image
+	 */
+	G15FrameBuffer getBuffer() { return myPixels; }
+
 	/**
 	 * Get image.
 	 *
-	 * @return String of image
+	 * @return String of image, one '0' or '1' per pixel
 	 */
-	public String toString() { return myImage; }
-}
\ No newline at end of file
+	public synchronized String toString() {
+		if (myImage == null) {
+			final StringBuilder image = new StringBuilder(myWidth * myHeight);
+			for (int y = 0; y < myHeight; ++y) {
+				for (int x = 0; x < myWidth; ++x) {
+					image.append(myPixels.getPixel(x, y) ? '1' : '0');
+				}
+			}
+			myImage = image.toString();
+		}
+		return myImage;
+	}
+}
@@ -23,2066 +23,15 @@
  */
 package uk.org.dataforce.g15.fonts;
 
-import java.awt.Color;
-import java.awt.Dimension;
-
 /**
  * Small Font size.
  *
  * Based on http://g15tools.svn.sourceforge.net/viewvc/g15tools/trunk/libg15render/src/font_7x5.c
+ * The glyphs are loaded from 5x7.g15f
  */
-public class Font_5x7 extends G15Font {
+public class Font_5x7 extends G15BitmapFont {
 	/** Create a new Font_5x7 */
 	public Font_5x7() {
-		super();
-		size = new Dimension(5, 7);
-		char[] font = {0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x01, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               
-		               0x01, 0x00, 0x01, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x01, 
-		               0x01, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x01, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x01, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x01, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x00, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x01, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x01, 0x01, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x01, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x01, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               
-		               0x01, 0x01, 0x01, 0x01, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x01, 
-		               
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x01, 0x01, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x01, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x01, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x01, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x01, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x00, 
-		               0x01, 0x01, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x01, 0x00, 0x01, 0x00, 
-		               0x01, 0x01, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x01, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x01, 0x00, 
-		               0x01, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x00, 
-		               0x01, 0x01, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x01, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x01, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x01, 0x01, 0x00, 0x00, 0x01, 
-		               0x01, 0x00, 0x01, 0x00, 0x01, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x01, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x01, 0x01, 0x01, 0x00, 0x01, 
-		               0x01, 0x01, 0x00, 0x00, 0x01, 
-		               0x01, 0x01, 0x00, 0x00, 0x01, 
-		               0x01, 0x00, 0x00, 0x00, 0x01, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x01, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x01, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x01, 0x00, 0x01, 0x00, 
-		               0x01, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x01, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x01, 0x00, 
-		               
-		               0x01, 0x01, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x01, 0x00, 
-		               
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x01, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x01, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x00, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x01, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x01, 0x01, 0x00, 
-		               0x01, 0x01, 0x00, 0x01, 0x00, 
-		               0x01, 0x01, 0x00, 0x01, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x01, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x01, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x01, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x01, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x01, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x01, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x01, 0x00, 
-		               0x01, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x01, 0x00, 
-		               0x01, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x01, 0x00, 
-		               0x01, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x01, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x01, 0x01, 0x00, 
-		               0x01, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x01, 0x00, 0x01, 0x01, 0x00, 
-		               0x01, 0x01, 0x00, 0x01, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x01, 0x00, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x01, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x01, 0x01, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x00, 0x00, 
-		               
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x00, 0x00, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x01, 0x00, 0x00, 0x01, 0x00, 
-		               0x00, 0x01, 0x00, 0x01, 0x00, 
-		               0x00, 0x00, 0x01, 0x00, 0x00, 
-		               0x00, 0x01, 0x00, 0x00, 0x00};
-		fontdata = font;
+		super("5x7");
 	}
-}
\ No newline at end of file
+}
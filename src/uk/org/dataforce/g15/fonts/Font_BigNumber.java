@@ -25,6 +25,7 @@ package uk.org.dataforce.g15.fonts;
 
 import java.awt.Color;
 import java.awt.Dimension;
+import java.util.HashMap;
 
 /**
  * Big Number font.
@@ -38,6 +39,12 @@ public class Font_BigNumber extends G15Font {
 	/** What is the midpoint of this font? */
 	final int midpoint;
 	
+	/**
+	 * Glyph rows for each size of this font that has been used, keyed by
+	 * "widthxheight", so every instance of the same size shares them.
+	 */
+	private static final HashMap<String, int[]> sizeGlyphRows = new HashMap<String, int[]>();
+	
 	/** Create a new Font_BigNumber */
 	public Font_BigNumber(final int width, final int height) {
 		super();
@@ -52,6 +59,39 @@ public class Font_BigNumber extends G15Font {
 		}
 	}
 	
+	/**
+	 * Get the number of characters in this font.
+	 * Only the digits and ':' have glyphs, everything before them is blank.
+	 *
+	 * @return Number of characters in this font.
+	 */
+	protected int getGlyphCount() {
+		return ':' + 1;
+	}
+	
+	/**
+	 * Build the rows for the glyphs in this font.
+	 * Only the digits and ':' are drawn, and each size is only built once.
+	 *
+	 * @return getGlyphCount() glyphs of getSize().height rows each.
+	 */
+	protected int[] buildGlyphRows() {
+		final String key = size.width + "x" + size.height;
+		synchronized (sizeGlyphRows) {
+			int[] rows = sizeGlyphRows.get(key);
+			if (rows == null) {
+				rows = new int[getGlyphCount() * size.height];
+				for (int character = '0'; character <= ':'; ++character) {
+					for (int y = 0; y < size.height; ++y) {
+						rows[character * size.height + y] = buildGlyphRow(character, y);
+					}
+				}
+				sizeGlyphRows.put(key, rows);
+			}
+			return rows;
+		}
+	}
+	
 	/**
 	 * Get the pixel colour for the requested character at the requested X, Y
 	 * position.
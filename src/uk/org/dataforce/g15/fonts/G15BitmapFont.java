@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2006-2008 Shane Mc Cormack
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SVN: $Id$
+ */
+package uk.org.dataforce.g15.fonts;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import uk.org.dataforce.g15.G15Control;
+
+/**
+ * Font loaded from a packed bitmap font file (.g15f).
+ *
+ * The file format is:
+ *   "G15F" (4 bytes)
+ *   Version (1 byte, 1 or 2)
+ *   Glyph width (1 byte, 1-32)
+ *   Glyph height (1 byte)
+ *   Reserved (1 byte, 0)
+ *   Number of glyphs (2 bytes, big-endian)
+ *   Version 2 only: the character of each glyph (2 bytes each, big-endian).
+ *   Version 1 fonts start at character 0 and have no gaps.
+ *   Glyphs. Each glyph is height rows of (width+7)/8 bytes, with the leftmost
+ *   pixel in the most significant bit of the first byte and black as 1.
+ *
+ * Version 2 fonts only need to have the characters they actually draw, so
+ * can cover a few characters from anywhere in Unicode, such as a font to use
+ * as a fallback for accented or CJK characters.
+ *
+ * Fonts are looked for in the fonts directory of the config dir first, then
+ * on the classpath next to this class, so bundled fonts can be replaced.
+ */
+public class G15BitmapFont extends G15Font {
+	/** Version of the format with glyphs for characters 0 onwards. */
+	private static final int VERSION_DENSE = 1;
+	/** Version of the format with a character for each glyph. */
+	private static final int VERSION_SPARSE = 2;
+	/** Size of the header. */
+	private static final int HEADER_SIZE = 10;
+	
+	/** Name of this font. */
+	private final String myName;
+	/** Glyph rows read from the file. */
+	private int[] rows;
+	/** Character of each glyph, or null if glyph n is character n. */
+	private int[] characters = null;
+	
+	/**
+	 * Create a new G15BitmapFont from the contents of a font file.
+	 *
+	 * @param name Name of the font
+	 * @param data Contents of the font file
+	 * @throws IOException If the data is not a valid font
+	 */
+	public G15BitmapFont(final String name, final ByteBuffer data) throws IOException {
+		super();
+		myName = name;
+		read(data);
+	}
+	
+	/**
+	 * Create a new G15BitmapFont for a font that is bundled with G15Control.
+	 * This is used by the built in fonts, which are always available.
+	 *
+	 * @param name Name of the font, such as "5x7"
+	 * @throws IllegalStateException If the font could not be loaded
+	 */
+	protected G15BitmapFont(final String name) {
+		super();
+		myName = name;
+		try {
+			read(findFont(name));
+		} catch (IOException ioe) {
+			throw new IllegalStateException("Unable to load font "+name+": "+ioe.getMessage());
+		}
+	}
+	
+	/**
+	 * Read the contents of a font file.
+	 *
+	 * @param data Contents of the font file
+	 * @throws IOException If the data is not a valid font
+	 */
+	private void read(final ByteBuffer data) throws IOException {
+		final String name = myName;
+		if (data.remaining() < HEADER_SIZE || data.get() != 'G' || data.get() != '1' || data.get() != '5' || data.get() != 'F') {
+			throw new IOException("Not a G15 font: "+name);
+		}
+		final int version = data.get();
+		if (version != VERSION_DENSE && version != VERSION_SPARSE) {
+			throw new IOException("Unsupported G15 font version: "+name);
+		}
+		final int width = data.get() & 0xFF;
+		final int height = data.get() & 0xFF;
+		data.get();
+		final int count = data.getShort() & 0xFFFF;
+		final int bytesPerRow = (width + 7) / 8;
+		final int indexSize = (version == VERSION_SPARSE) ? count * 2 : 0;
+		if (width < 1 || width > 32 || height < 1 || data.remaining() < indexSize + count * height * bytesPerRow) {
+			throw new IOException("Corrupt G15 font: "+name);
+		}
+		
+		if (version == VERSION_SPARSE) {
+			characters = new int[count];
+			for (int i = 0; i < count; ++i) {
+				characters[i] = data.getShort() & 0xFFFF;
+			}
+		}
+		
+		size = new Dimension(width, height);
+		rows = new int[count * height];
+		for (int i = 0; i < rows.length; ++i) {
+			int row = 0;
+			for (int b = 0; b < bytesPerRow; ++b) {
+				row |= (data.get() & 0xFF) << (24 - (b << 3));
+			}
+			// Ignore any padding after the last column.
+			rows[i] = row & ~(-1 >>> width);
+		}
+	}
+	
+	/**
+	 * Load a font by name.
+	 *
+	 * @param name Name of the font, such as "5x7"
+	 * @return The font
+	 * @throws IOException If the font could not be found or loaded
+	 */
+	public static G15BitmapFont load(final String name) throws IOException {
+		return new G15BitmapFont(name, findFont(name));
+	}
+	
+	/**
+	 * Find the contents of a font file.
+	 * Fonts in the config directory are memory-mapped, fonts on the classpath
+	 * are read into memory.
+	 *
+	 * @param name Name of the font, such as "5x7"
+	 * @return Contents of the font file
+	 * @throws IOException If the font could not be found or read
+	 */
+	public static ByteBuffer findFont(final String name) throws IOException {
+		final File file = new File(G15Control.getConfigDir()+"fonts"+File.separator+name+".g15f");
+		if (file.isFile()) {
+			final FileInputStream in = new FileInputStream(file);
+			try {
+				final FileChannel channel = in.getChannel();
+				return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			} finally {
+				in.close();
+			}
+		}
+		
+		final InputStream in = G15BitmapFont.class.getResourceAsStream(name+".g15f");
+		if (in == null) {
+			throw new FileNotFoundException("Font not found: "+name);
+		}
+		try {
+			final ByteArrayOutputStream out = new ByteArrayOutputStream();
+			final byte[] buffer = new byte[4096];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				out.write(buffer, 0, read);
+			}
+			return ByteBuffer.wrap(out.toByteArray());
+		} finally {
+			in.close();
+		}
+	}
+	
+	/**
+	 * Get the name of this font.
+	 *
+	 * @return Name of this font.
+	 */
+	public String getName() {
+		return myName;
+	}
+	
+	/**
+	 * Get the number of characters in this font.
+	 *
+	 * @return Number of characters in this font.
+	 */
+	protected int getGlyphCount() {
+		return rows.length / size.height;
+	}
+	
+	/**
+	 * Get the character of each glyph in this font.
+	 *
+	 * @return Character of each glyph, or null if glyph n is character n.
+	 */
+	protected int[] getGlyphCharacters() {
+		return characters;
+	}
+	
+	/**
+	 * Get the rows for the glyphs in this font, as read from the file.
+	 *
+	 * @return getGlyphCount() glyphs of getSize().height rows each.
+	 */
+	protected int[] buildGlyphRows() {
+		return rows;
+	}
+	
+	/**
+	 * Get the pixel colour for the requested character at the requested X, Y
+	 * position.
+	 * This includes characters from the fallback fonts.
+	 *
+	 * @param character Character number to get pixel data for,
+	 * @param x X pixel of font to get data for
+	 * @param y Y pixel of font to get data for
+	 * @return Black/White color for font. (white if invalud position/char)
+	 */
+	public Color getPixelColor(final int character, final int x, final int y) {
+		final int offset = getGlyphOffset(character);
+		if (offset < 0 || x < 0 || y < 0 || x >= size.width || y >= size.height) {
+			return Color.white;
+		} else if ((getGlyphRows()[offset + y] & (0x80000000 >>> x)) != 0) {
+			return Color.black;
+		} else {
+			return Color.white;
+		}
+	}
+}
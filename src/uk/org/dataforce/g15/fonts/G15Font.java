@@ -25,6 +25,9 @@ package uk.org.dataforce.g15.fonts;
 
 import java.awt.Color;
 import java.awt.Dimension;
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.HashMap;
 
 public abstract class G15Font {
 	/** Font Data for this font */
@@ -33,6 +36,52 @@ public abstract class G15Font {
 	/** Font Size */
 	Dimension size;
 	
+	/** Number of characters in each page of the glyph index. */
+	private static final int PAGE_SIZE = 256;
+	/** Number of pages in the glyph index, enough for every char. */
+	private static final int PAGE_COUNT = 0x10000 / PAGE_SIZE;
+	/**
+	 * Ranges of accented letters (Latin-1 Supplement, Latin Extended-A and B,
+	 * and Latin Extended Additional) that are drawn as the letter without the
+	 * accent if no font in the chain has them.
+	 */
+	private static final int[][] DECOMPOSE_RANGES = {{0x00C0, 0x024F}, {0x1E00, 0x1EFF}};
+	
+	/** Glyph rows and the index into them. */
+	private static final class GlyphTable {
+		/**
+		 * Glyphs as rows of bits.
+		 * Each row is an int with the leftmost pixel in the most significant bit.
+		 */
+		final int[] rows;
+		/**
+		 * Position of the first row of each character in rows, or -1 if it is
+		 * not available. This is split into pages of PAGE_SIZE characters, pages
+		 * with no characters at all are null.
+		 */
+		final int[][] pages;
+		
+		/**
+		 * Create a new GlyphTable.
+		 *
+		 * @param rows Glyph rows
+		 * @param pages Index into the rows
+		 */
+		GlyphTable(final int[] rows, final int[][] pages) {
+			this.rows = rows;
+			this.pages = pages;
+		}
+	}
+	
+	/**
+	 * Glyphs of this font and its fallbacks, built by getGlyphTable() when
+	 * first needed.
+	 */
+	private volatile GlyphTable glyphTable = null;
+	
+	/** Font to use for characters that this font does not have. */
+	private volatile G15Font fallback = null;
+	
 	/** Create a new G15Font */
 	public G15Font() { }
 
@@ -64,9 +113,12 @@ public abstract class G15Font {
 	 */
 	public String getPixels(final int character) {
 		final StringBuffer buffer = new StringBuffer(size.width*size.height);
+		final int[] rows = getGlyphRows();
+		final int offset = getGlyphOffset(character);
 		for (int y = 0; y < size.height ; ++y) {
+			final int row = (offset < 0) ? 0 : rows[offset + y];
 			for (int x = 0; x < size.width ; ++x) {
-				if (getPixelColor(character, x, y) == Color.black) {
+				if ((row & (0x80000000 >>> x)) != 0) {
 					buffer.append('1');
 				} else {
 					buffer.append('0');
@@ -76,6 +128,236 @@ public abstract class G15Font {
 		return buffer.toString();
 	}
 	
+	/**
+	 * Get the number of glyphs returned by buildGlyphRows().
+	 *
+	 * @return Number of glyphs in this font.
+	 */
+	protected int getGlyphCount() {
+		return fontdata.length / (size.width * size.height);
+	}
+	
+	/**
+	 * Get the character for each glyph returned by buildGlyphRows().
+	 * By default glyph n is character n, fonts that only have some characters
+	 * can override this.
+	 *
+	 * @return Character of each glyph, or null if glyph n is character n.
+	 */
+	protected int[] getGlyphCharacters() {
+		return null;
+	}
+	
+	/**
+	 * Set the font to use for characters that this font does not have.
+	 * The fallback can have its own fallback, so fonts can be chained. The
+	 * fallback's glyphs are drawn from the top left of this font's glyphs, and
+	 * cut down to this font's size.
+	 * Fallbacks should be set before the font is used, changing a fallback's
+	 * own fallback later does not affect fonts that have already been used.
+	 *
+	 * @param font Font to fall back to, or null for none.
+	 * @throws IllegalArgumentException If the fallback would lead back to this font
+	 */
+	public void setFallback(final G15Font font) {
+		for (G15Font check = font; check != null; check = check.getFallback()) {
+			if (check == this) {
+				throw new IllegalArgumentException("Font fallbacks can not loop");
+			}
+		}
+		fallback = font;
+		glyphTable = null;
+	}
+	
+	/**
+	 * Get the font used for characters that this font does not have.
+	 *
+	 * @return Fallback font, or null if there is none.
+	 */
+	public G15Font getFallback() {
+		return fallback;
+	}
+	
+	/**
+	 * Get the glyphs for this font as rows of bits.
+	 * Each row is an int with the leftmost pixel in the most significant bit,
+	 * and black pixels set. Only the first 32 columns of a glyph are kept.
+	 * This includes glyphs taken from the fallback fonts.
+	 *
+	 * @return Glyph rows, use getGlyphOffset() to find a character. This must
+	 *         not be modified.
+	 */
+	public final int[] getGlyphRows() {
+		return getGlyphTable().rows;
+	}
+	
+	/**
+	 * Get the glyph table, building it if needed.
+	 *
+	 * @return The glyph table.
+	 */
+	private GlyphTable getGlyphTable() {
+		GlyphTable table = glyphTable;
+		if (table == null) {
+			table = buildGlyphTable();
+			glyphTable = table;
+		}
+		return table;
+	}
+	
+	/**
+	 * Build the glyph table from this font's glyphs, then its fallbacks, then
+	 * accented letters drawn without their accent.
+	 *
+	 * @return The glyph table.
+	 */
+	private GlyphTable buildGlyphTable() {
+		final int height = size.height;
+		final int[][] pages = new int[PAGE_COUNT][];
+		
+		// This font's glyphs are used as they are.
+		final int[] ownRows = buildGlyphRows();
+		final int[] characters = getGlyphCharacters();
+		final int count = ownRows.length / height;
+		for (int i = 0; i < count; ++i) {
+			final int character = (characters == null) ? i : characters[i];
+			if (getOffset(pages, character) < 0) {
+				setOffset(pages, character, i * height);
+			}
+		}
+		
+		// Glyphs from the fallbacks are copied after them. (The fallback's table
+		// already has everything from the rest of the chain.)
+		int[] rows = ownRows;
+		int used = ownRows.length;
+		final G15Font font = fallback;
+		if (font != null) {
+			final GlyphTable other = font.getGlyphTable();
+			final int copyHeight = Math.min(height, font.size.height);
+			final int width = Math.min(size.width, 32);
+			final int widthMask = (width == 32) ? -1 : ~(-1 >>> width);
+			// Characters that share a glyph in the fallback share the copy.
+			final HashMap<Integer, Integer> copied = new HashMap<Integer, Integer>();
+			for (int page = 0; page < PAGE_COUNT; ++page) {
+				if (other.pages[page] == null) { continue; }
+				for (int i = 0; i < PAGE_SIZE; ++i) {
+					final int character = page * PAGE_SIZE + i;
+					final int otherOffset = other.pages[page][i];
+					if (otherOffset < 0 || getOffset(pages, character) >= 0) { continue; }
+					Integer offset = copied.get(otherOffset);
+					if (offset == null) {
+						if (used + height > rows.length) {
+							rows = Arrays.copyOf(rows, Math.max(rows.length * 2, used + height));
+						}
+						for (int y = 0; y < copyHeight; ++y) {
+							rows[used + y] = other.rows[otherOffset + y] & widthMask;
+						}
+						offset = used;
+						used += height;
+						copied.put(otherOffset, offset);
+					}
+					setOffset(pages, character, offset);
+				}
+			}
+			if (rows != ownRows) {
+				rows = Arrays.copyOf(rows, used);
+			}
+		}
+		
+		// Accented letters that nothing has are drawn without their accent.
+		for (int[] range : DECOMPOSE_RANGES) {
+			for (int character = range[0]; character <= range[1]; ++character) {
+				if (getOffset(pages, character) >= 0) { continue; }
+				final String decomposed = Normalizer.normalize(String.valueOf((char)character), Normalizer.Form.NFD);
+				final int offset = getOffset(pages, decomposed.charAt(0));
+				if (decomposed.charAt(0) != character && offset >= 0) {
+					setOffset(pages, character, offset);
+				}
+			}
+		}
+		
+		return new GlyphTable(rows, pages);
+	}
+	
+	/**
+	 * Get the offset of a character in a glyph index.
+	 *
+	 * @param pages The glyph index
+	 * @param character Character to find
+	 * @return Offset of the character, or -1 if it is not in the index.
+	 */
+	private static int getOffset(final int[][] pages, final int character) {
+		if (character < 0 || character >= PAGE_COUNT * PAGE_SIZE) { return -1; }
+		final int[] page = pages[character / PAGE_SIZE];
+		return (page == null) ? -1 : page[character % PAGE_SIZE];
+	}
+	
+	/**
+	 * Set the offset of a character in a glyph index.
+	 * Characters outside the index are ignored.
+	 *
+	 * @param pages The glyph index
+	 * @param character Character to set
+	 * @param offset Offset of the character's first row
+	 */
+	private static void setOffset(final int[][] pages, final int character, final int offset) {
+		if (character < 0 || character >= PAGE_COUNT * PAGE_SIZE) { return; }
+		int[] page = pages[character / PAGE_SIZE];
+		if (page == null) {
+			page = new int[PAGE_SIZE];
+			Arrays.fill(page, -1);
+			pages[character / PAGE_SIZE] = page;
+		}
+		page[character % PAGE_SIZE] = offset;
+	}
+	
+	/**
+	 * Build the rows for every glyph in this font from getPixelColor().
+	 *
+	 * @return getGlyphCount() glyphs of getSize().height rows each.
+	 */
+	protected int[] buildGlyphRows() {
+		final int count = getGlyphCount();
+		final int[] rows = new int[count * size.height];
+		for (int character = 0; character < count; ++character) {
+			for (int y = 0; y < size.height; ++y) {
+				rows[character * size.height + y] = buildGlyphRow(character, y);
+			}
+		}
+		return rows;
+	}
+	
+	/**
+	 * Build a single row of a glyph from getPixelColor().
+	 *
+	 * @param character Character to build
+	 * @param y Row to build
+	 * @return The row, with the leftmost pixel in the most significant bit.
+	 */
+	protected final int buildGlyphRow(final int character, final int y) {
+		final int width = Math.min(size.width, 32);
+		int row = 0;
+		for (int x = 0; x < width; ++x) {
+			if (getPixelColor(character, x, y) == Color.black) {
+				row |= 0x80000000 >>> x;
+			}
+		}
+		return row;
+	}
+	
+	/**
+	 * Get the position of the first row of a character in getGlyphRows().
+	 * This is a lookup in a two level table, so is quick for any character and
+	 * does not allocate anything.
+	 *
+	 * @param character Character to find
+	 * @return Position of the first row, or -1 if neither this font nor its
+	 *         fallbacks have the character.
+	 */
+	public final int getGlyphOffset(final int character) {
+		return getOffset(getGlyphTable().pages, character);
+	}
+	
 	/**
 	 * Get the size of this font.
 	 *
@@ -84,4 +366,24 @@ public abstract class G15Font {
 	public Dimension getSize() {
 		return new Dimension(size);
 	}
+	
+	/**
+	 * Get the width of the characters in this font.
+	 * Unlike getSize() this does not allocate anything.
+	 *
+	 * @return width of this font.
+	 */
+	public int getWidth() {
+		return size.width;
+	}
+	
+	/**
+	 * Get the height of the characters in this font.
+	 * Unlike getSize() this does not allocate anything.
+	 *
+	 * @return height of this font.
+	 */
+	public int getHeight() {
+		return size.height;
+	}
 }
\ No newline at end of file
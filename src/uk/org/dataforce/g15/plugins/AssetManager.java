@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2006-2008 Shane Mc Cormack
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SVN: $Id$
+ */
+package uk.org.dataforce.g15.plugins;
+
+import uk.org.dataforce.g15.G15Control;
+import uk.org.dataforce.g15.PixelImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Loads and caches the images used by plugins, such as status icons.
+ * Images are PBM (.pbm) or XBM (.xbm) files, and are looked for in the
+ * "images" directory of the config dir (to allow them to be replaced), then in
+ * the plugin jar alongside the class that wants them, then on the classpath.
+ * Each image is decoded once, and the same PixelImage is then returned to every
+ * caller until the plugin that loaded it is unloaded.
+ */
+public class AssetManager {
+	/** Loaded images, by owner class name and image name. */
+	private final Map<String, PixelImage> images = new HashMap<String, PixelImage>();
+
+	/** Singleton instance of the asset manager. */
+	private static AssetManager me;
+
+	/**
+	 * Create a new AssetManager.
+	 */
+	private AssetManager() { }
+
+	/**
+	 * Retrieves the singleton instance of the asset manager.
+	 *
+	 * @return A singleton instance of AssetManager.
+	 */
+	public static final synchronized AssetManager getAssetManager() {
+		if (me == null) {
+			me = new AssetManager();
+		}
+
+		return me;
+	}
+
+	/**
+	 * Get an image.
+	 *
+	 * @param owner Class that wants the image, the image is looked for in the
+	 *              same package as this class.
+	 * @param name Name of the image file, such as "shuffle-on.pbm"
+	 * @return The image, or null if it could not be found or loaded.
+	 */
+	public PixelImage getImage(final Class< ? > owner, final String name) {
+		final String key = owner.getName()+"/"+name;
+		synchronized (images) {
+			if (images.containsKey(key)) {
+				return images.get(key);
+			}
+		}
+
+		PixelImage image = null;
+		try {
+			final byte[] data = findImage(owner, name);
+			if (data == null) {
+				System.out.println("[AssetManager] Image not found: "+name);
+			} else if (name.toLowerCase().endsWith(".xbm")) {
+				image = PixelImage.fromXBM(data);
+			} else {
+				image = PixelImage.fromPBM(data);
+			}
+		} catch (IOException ioe) {
+			System.out.println("[AssetManager] Unable to load image "+name+": "+ioe.getMessage());
+		}
+
+		// Failures are remembered too, so a missing image is only looked for once.
+		synchronized (images) {
+			images.put(key, image);
+		}
+		return image;
+	}
+
+	/**
+	 * Forget all the images loaded for classes from the given plugin, so that
+	 * they are loaded again if the plugin is reloaded.
+	 *
+	 * @param pluginInfo Plugin being unloaded
+	 */
+	public void forget(final PluginInfo pluginInfo) {
+		synchronized (images) {
+			final Iterator<String> it = images.keySet().iterator();
+			while (it.hasNext()) {
+				final String className = it.next().split("/", 2)[0];
+				if (pluginInfo.getClassList().contains(className)) {
+					it.remove();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Find the contents of an image file.
+	 *
+	 * @param owner Class that wants the image
+	 * @param name Name of the image file
+	 * @return Contents of the file, or null if it was not found.
+	 * @throws IOException If the file was found but could not be read.
+	 */
+	private byte[] findImage(final Class< ? > owner, final String name) throws IOException {
+		final File file = new File(G15Control.getConfigDir()+"images"+File.separator+name);
+		if (file.isFile()) {
+			return readAll(new FileInputStream(file));
+		}
+
+		if (owner.getClassLoader() instanceof PluginClassLoader) {
+			final PluginInfo pluginInfo = ((PluginClassLoader)owner.getClassLoader()).pluginInfo;
+			final String packageName = owner.getName().substring(0, owner.getName().lastIndexOf('.') + 1);
+			final byte[] data = pluginInfo.getResourceManager().getResourceBytes(packageName.replace('.', '/')+name);
+			if (data.length > 0) {
+				return data;
+			}
+		}
+
+		final InputStream in = owner.getResourceAsStream(name);
+		return (in == null) ? null : readAll(in);
+	}
+
+	/**
+	 * Read the whole of a stream, and close it.
+	 *
+	 * @param in Stream to read
+	 * @return Contents of the stream
+	 * @throws IOException If there is a problem reading the stream.
+	 */
+	private static byte[] readAll(final InputStream in) throws IOException {
+		try {
+			final ByteArrayOutputStream out = new ByteArrayOutputStream();
+			final byte[] buffer = new byte[4096];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				out.write(buffer, 0, read);
+			}
+			return out.toByteArray();
+		} finally {
+			in.close();
+		}
+	}
+}
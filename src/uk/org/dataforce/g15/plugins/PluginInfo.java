@@ -402,6 +402,7 @@ public class PluginInfo implements Comparable<PluginInfo> {
 			}
 			plugin = null;
 			classloader = null;
+			AssetManager.getAssetManager().forget(this);
 		}
 	}
 
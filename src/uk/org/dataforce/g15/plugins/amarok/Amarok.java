@@ -23,22 +23,29 @@
  */
 package uk.org.dataforce.g15.plugins.amarok;
 
-import java.awt.Point;
-import java.util.Date;
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
-
 import uk.org.dataforce.g15.plugins.DCOPHax;
+import uk.org.dataforce.g15.plugins.AssetManager;
 import uk.org.dataforce.g15.plugins.Plugin;
 import uk.org.dataforce.g15.G15Control;
 import uk.org.dataforce.g15.G15Position;
 import uk.org.dataforce.g15.FontSize;
+import uk.org.dataforce.g15.G15Marquee;
 import uk.org.dataforce.g15.PixelImage;
 import uk.org.dataforce.g15.ProgressBarType;
 import uk.org.dataforce.g15.G15Wrapper;
 import uk.org.dataforce.g15.XMLParser;
+import uk.org.dataforce.g15.widgets.G15Clock;
+import uk.org.dataforce.g15.widgets.G15Display;
+import uk.org.dataforce.g15.widgets.G15Icon;
+import uk.org.dataforce.g15.widgets.G15Label;
+import uk.org.dataforce.g15.widgets.G15MenuBar;
+import uk.org.dataforce.g15.widgets.G15ProgressBar;
+import uk.org.dataforce.g15.widgets.G15Separator;
 
 public class Amarok extends Plugin {
+	/** Icon used when a status icon can not be loaded. */
+	private static final PixelImage BLANK_ICON = new PixelImage(7, 6, new byte[6]);
+
 	/** Default Menu Buttons */
 	private String[] defaultMenuButtons = new String[]{"ShowOSD", "", "", "PB-", "T+"};
 	
@@ -100,7 +107,29 @@ public class Amarok extends Plugin {
 	private final static String ERROR_NOTPLAYING = "Nothing playing.";
 	private final static String ERROR_GETTINGDATA = "Error getting data.";
 	
-	private DateFormat dateFormat = new SimpleDateFormat("HH:mm:ss");
+	/** Marquee for the artist, so long names scroll. */
+	private final G15Marquee artistMarquee = new G15Marquee(FontSize.SMALL, 1, 10, 158);
+	/** Marquee for the title, so long names scroll. */
+	private final G15Marquee titleMarquee = new G15Marquee(FontSize.SMALL, 1, 16, 158);
+	
+	/** Widgets on the screen, so only what changes is redrawn. */
+	private final G15Display display = new G15Display();
+	/** Message shown in place of the track details. */
+	private final G15Label messageLabel = display.add(new G15Label(1, 9, 157, 33, FontSize.LARGE, 0, (G15Wrapper.getHeight()/2)-3, G15Position.CENTER));
+	/** Time of the current track. */
+	private final G15Label timeLabel = display.add(new G15Label(1, 22, 157, 27, FontSize.SMALL, 0, 22, G15Position.CENTER));
+	/** Progress through the current track. */
+	private final G15ProgressBar progressBar = display.add(new G15ProgressBar(10, 30, 150, 30, ProgressBarType.TYPE3));
+	/** Screen title. */
+	private final G15Label titleLabel = display.add(new G15Label(3, 1, 103, 7, FontSize.SMALL, 4, 2, G15Position.LEFT));
+	/** Repeat status, between the separators at 104 and 114. */
+	private final G15Icon repeatIcon = display.add(new G15Icon(105, 1, 112, 7, 106, 2));
+	/** Shuffle status, between the separators at 114 and 124. */
+	private final G15Icon shuffleIcon = display.add(new G15Icon(115, 1, 122, 7, 116, 2));
+	/** The clock. */
+	private final G15Clock clock = display.add(new G15Clock(125, 1, 156, 7, FontSize.SMALL, 126, 2, G15Position.LEFT));
+	/** The menu. */
+	private final G15MenuBar menuBar = display.add(new G15MenuBar());
 	
 	/**
 	 * Called when the plugin is loaded.
@@ -115,6 +144,24 @@ public class Amarok extends Plugin {
 		
 		configFile.reset();
 		brokenPBar3 = Boolean.parseBoolean(configFile.getValue(configFile.findElement("pbar3fix")));
+		if (brokenPBar3) {
+			progressBar.setBackgroundType(ProgressBarType.TYPE3);
+			progressBar.setType(ProgressBarType.TYPE1);
+		}
+	
+		configFile.reset();
+		try {
+			final int speed = Integer.parseInt(configFile.getValue(configFile.findElement("marqueespeed")));
+			artistMarquee.setSpeed(speed);
+			titleMarquee.setSpeed(speed);
+		} catch (NumberFormatException e) { }
+		
+		titleLabel.setText(OUTPUT_SCREENTITLE);
+		display.add(new G15Separator(124, 0, 124, 8));
+		display.add(new G15Separator(114, 0, 114, 8));
+		display.add(new G15Separator(104, 0, 104, 8));
+		display.add(new G15Separator(0, 8, myScreen.getWidth(), 8));
+		display.add(new G15Separator(0, 34, myScreen.getWidth(), 34));
 	}
 	
 	/**
@@ -135,15 +182,15 @@ public class Amarok extends Plugin {
 	 * Called every 1/2 second for drawing related tasks when this screen is active.
 	 */
 	public void onRedraw() {
-		myScreen.fillArea(new Point(1,9), new Point(158, 33), false);
-		myScreen.drawText(FontSize.SMALL, new Point(126, 2), G15Position.LEFT, dateFormat.format(new Date()));
+		clock.update();
 		String playStatus = PLAYSTATUS_UNKNOWN;
 		String randomStatus = RANDSTATUS_NORMAL;
+		PixelImage repeatImage = null;
+		PixelImage shuffleImage = null;
 		try {
 			blankMenu = !dcop.checkCommand(PLAYER_CHECKCOMMAND);
 			if (blankMenu) {
-				myScreen.fillArea(new Point(1,9), new Point(158, 33), false);
-				myScreen.drawText(FontSize.LARGE, new Point(0, (myScreen.getHeight()/2)-3), G15Position.CENTER, ERROR_NOTRUNNING);
+				showMessage(ERROR_NOTRUNNING);
 			} else {
 				try {
 					final int status = Integer.parseInt(dcop.sendFunctionSingle(PLAYER_STATUS));
@@ -158,28 +205,27 @@ public class Amarok extends Plugin {
 					}
 				} catch (NumberFormatException e) { }
 				if (playStatus == PLAYSTATUS_STOPPED) {
-					myScreen.fillArea(new Point(1,9), new Point(158, 33), false);
-					myScreen.drawText(FontSize.LARGE, new Point(0, (myScreen.getHeight()/2)-3), G15Position.CENTER, ERROR_NOTPLAYING);
+					showMessage(ERROR_NOTPLAYING);
 				} else {
-					/*boolean isRepeatPlaylist = Boolean.parseBoolean(dcop.sendFunctionSingle(PLAYER_REPEATPLAYLISTSTATUS));
+					final boolean isRepeatPlaylist = Boolean.parseBoolean(dcop.sendFunctionSingle(PLAYER_REPEATPLAYLISTSTATUS));
 					if (isRepeatPlaylist) {
-						myScreen.drawPixels(new Point(106, 2), getRepeatOn());
+						repeatImage = getRepeatOn();
 					} else {
-						boolean isRepeatTrack = Boolean.parseBoolean(dcop.sendFunctionSingle(PLAYER_REPEATTRACKSTATUS));
-						 if (isRepeatTrack) {
-							myScreen.drawPixels(new Point(106, 2), getRepeatTrackOn());
+						final boolean isRepeatTrack = Boolean.parseBoolean(dcop.sendFunctionSingle(PLAYER_REPEATTRACKSTATUS));
+						if (isRepeatTrack) {
+							repeatImage = getRepeatTrackOn();
 						} else {
-							myScreen.drawPixels(new Point(106, 2), getRepeatOff());
+							repeatImage = getRepeatOff();
 						}
 					}
-					boolean isRandom = Boolean.parseBoolean(dcop.sendFunctionSingle(PLAYER_RANDOMMODESTATUS));
+					final boolean isRandom = Boolean.parseBoolean(dcop.sendFunctionSingle(PLAYER_RANDOMMODESTATUS));
 					if (isRandom) {
-						myScreen.drawPixels(new Point(116, 2), getShuffleOn());
+						shuffleImage = getShuffleOn();
 						randomStatus = RANDSTATUS_NORMAL;
 					} else {
-						myScreen.drawPixels(new Point(116, 2), getShuffleOff());
+						shuffleImage = getShuffleOff();
 						randomStatus = RANDSTATUS_RANDOM;
-					}*/
+					}
 
 					final String artist = dcop.sendFunctionSingle(PLAYER_ARTIST);
 					final String title = dcop.sendFunctionSingle(PLAYER_TITLE);
@@ -199,32 +245,50 @@ public class Amarok extends Plugin {
 							totalTime = 1;
 					}
 					
-					ProgressBarType pbar = ProgressBarType.TYPE3;
-					if (brokenPBar3) {
-						myScreen.drawProgressBar(new Point(10, 30), new Point(150, 30), true, 0, totalTime, pbar);
-						pbar = ProgressBarType.TYPE1;
-					}
 					if (showCountdownBar) {
-						myScreen.drawProgressBar(new Point(10, 30), new Point(150, 30), true, (totalTime-currentTime), totalTime, pbar);
+						progressBar.setValue(totalTime-currentTime, totalTime);
 					} else {
-						myScreen.drawProgressBar(new Point(10, 30), new Point(150, 30), true, currentTime, totalTime, pbar);
+						progressBar.setValue(currentTime, totalTime);
 					}
 					if (showCountdown) {
 						time = duration(totalTime-currentTime)+time;
 					} else {
 						time = duration(currentTime)+time;
 					}
-					myScreen.drawText(FontSize.SMALL, new Point(0, 10) , G15Position.CENTER, new String[]{artist, title, time});
+					artistMarquee.setText(artist);
+					titleMarquee.setText(title);
+					timeLabel.setText(time);
+					showMessage(null);
 				}
 			}
 		} catch (Exception e) {
-			myScreen.fillArea(new Point(1,9), new Point(158, 33), false);
-			myScreen.drawText(FontSize.LARGE, new Point(0, (myScreen.getHeight()/2)-3), G15Position.CENTER, ERROR_GETTINGDATA);
+			showMessage(ERROR_GETTINGDATA);
 		}
+		repeatIcon.setImage(repeatImage);
+		shuffleIcon.setImage(shuffleImage);
 		updateMenuButtons(randomStatus, playStatus);
+		display.render(myScreen);
+		if (!messageLabel.isVisible()) {
+			myScreen.drawMarquee(artistMarquee);
+			myScreen.drawMarquee(titleMarquee);
+		}
 		myScreen.silentDraw();
 	}
 	
+	/**
+	 * Show a message in place of the track details.
+	 *
+	 * @param message Message to show, or null to show the track details.
+	 */
+	private void showMessage(final String message) {
+		if (message != null) {
+			messageLabel.setText(message);
+		}
+		messageLabel.setVisible(message != null);
+		timeLabel.setVisible(message == null);
+		progressBar.setVisible(message == null);
+	}
+	
 	/**
 	 * Set the menu Buttons
 	 */
@@ -256,13 +320,8 @@ public class Amarok extends Plugin {
 	 * @param drawNow Should this be drawn now?
 	 */
 	private void drawMenu(boolean drawNow) {
-		myScreen.fillArea(new Point(3,35), new Point(myScreen.getWidth()-3, 41), false);
-		myScreen.drawLine(new Point(0,34), new Point(myScreen.getWidth(), 34), true);
-		myScreen.drawText(FontSize.SMALL, new Point(11, 36), G15Position.LEFT, menuButtons[0]);
-		myScreen.drawText(FontSize.SMALL, new Point(42, 36), G15Position.LEFT, menuButtons[1]);
-		myScreen.drawText(FontSize.SMALL, new Point(70, 36), G15Position.CENTER, menuButtons[2]);
-		myScreen.drawText(FontSize.SMALL, new Point(110, 36), G15Position.LEFT, menuButtons[3]);
-		myScreen.drawText(FontSize.SMALL, new Point(135, 36), G15Position.LEFT, menuButtons[4]);
+		menuBar.setButtons(menuButtons);
+		display.render(myScreen);
 		if (drawNow) {
 			myScreen.silentDraw();
 		}
@@ -291,14 +350,8 @@ public class Amarok extends Plugin {
 	 * This needs to FULLY redraw the screen.
 	 */
 	public void onActivate() {
-		myScreen.drawRoundedBox(myScreen.getTopLeftPoint(), myScreen.getBottomRightPoint(), true, false);
-		myScreen.fillArea(new Point(3,1), new Point(121, 7), false);
-		myScreen.drawText(FontSize.SMALL, new Point(4, 2), G15Position.LEFT, OUTPUT_SCREENTITLE);
-		myScreen.drawLine(new Point(124, 0), new Point(124, 8), true);
-		myScreen.drawLine(new Point(114, 0), new Point(114, 8), true);
-		myScreen.drawLine(new Point(104, 0), new Point(104, 8), true);
-		myScreen.drawLine(new Point(0, 8), new Point(myScreen.getWidth(), 8), true);
-		drawMenu(false);
+		myScreen.drawRoundedBox(0, 0, myScreen.getWidth()-1, myScreen.getHeight()-1, true, false);
+		display.invalidate();
 		onRedraw();
 	}
 	
@@ -361,82 +414,70 @@ public class Amarok extends Plugin {
 	}
 	
 	
+	/**
+	 * Get a status icon.
+	 * Icons are loaded once by the AssetManager and shared after that.
+	 *
+	 * @param name Name of the icon file
+	 * @return The icon, or a blank icon if it could not be loaded.
+	 */
+	private static PixelImage getIcon(final String name) {
+		final PixelImage icon = AssetManager.getAssetManager().getImage(Amarok.class, name);
+		return (icon == null) ? BLANK_ICON : icon;
+	}
+	
+	/**
+	 * Get the shuffle on icon.
+	 *
+	 * @return The icon
+	 */
 	public static PixelImage getShuffleOn() {
-//		StringBuilder img = new StringBuilder();
-//		img.append("0011110");
-//		img.append("0100000");
-//		img.append("0011100");
-//		img.append("0000010");
-//		img.append("0111100");
-//		img.append("0111100");
-//		return new PixelImage(7,6,img.toString());
-		final String img = "001111001000000011100000001001111000000000";
-		return new PixelImage(7,6,img);
+		return getIcon("shuffle-on.pbm");
 	}
 	
+	/**
+	 * Get the shuffle off icon.
+	 *
+	 * @return The icon
+	 */
 	public static PixelImage getShuffleOff() {
-//		StringBuilder img = new StringBuilder();
-//		img.append("0000000");
-//		img.append("0000000");
-//		img.append("0000000");
-//		img.append("0000000");
-//		img.append("0000000");
-//		img.append("0000000");
-//		return new PixelImage(7,6,img.toString());
-		final String img = "000000000000000000000000000000000000000000";
-		return new PixelImage(7,6,img);
+		return getIcon("shuffle-off.pbm");
 	}
 	
+	/**
+	 * Get the repeat on icon.
+	 *
+	 * @return The icon
+	 */
 	public static PixelImage getRepeatOn() {
-//		StringBuilder img = new StringBuilder();
-//		img.append("0111100");
-//		img.append("0100010");
-//		img.append("0111100");
-//		img.append("0100100");
-//		img.append("0100010");
-//		img.append("0000000");
-//		return new PixelImage(7,6,img.toString());
-		final String img = "011110001000100111100010010001000100000000";
-		return new PixelImage(7,6,img);
+		return getIcon("repeat-on.pbm");
 	}
 	
+	/**
+	 * Get the repeat track on icon.
+	 *
+	 * @return The icon
+	 */
 	public static PixelImage getRepeatTrackOn() {
-//		StringBuilder img = new StringBuilder();
-//		img.append("0111110");
-//		img.append("0001000");
-//		img.append("0001000");
-//		img.append("0001000");
-//		img.append("0001000");
-//		img.append("0000000");
-//		return new PixelImage(7,6,img.toString());
-		final String img = "011111000010000001000000100000010000000000";
-		return new PixelImage(7,6,img);
+		return getIcon("repeat-track-on.pbm");
 	}
 	
+	/**
+	 * Get the repeat album on icon.
+	 *
+	 * @return The icon
+	 */
 	public static PixelImage getRepeatAlbumOn() {
-//		StringBuilder img = new StringBuilder();
-//		img.append("0001000");
-//		img.append("0010100");
-//		img.append("0100010");
-//		img.append("0111110");
-//		img.append("0100010");
-//		img.append("0000000");
-//		return new PixelImage(7,6,img.toString());
-		final String img = "000100000101000100010011111001000100000000";
-		return new PixelImage(7,6,img);
+		return getIcon("repeat-album-on.pbm");
 	}
 	
+	/**
+	 * Get the repeat off icon.
+	 *
+	 * @return The icon
+	 */
 	public static PixelImage getRepeatOff() {
-//		StringBuilder img = new StringBuilder();
-//		img.append("0000000");
-//		img.append("0000000");
-//		img.append("0000000");
-//		img.append("0000000");
-//		img.append("0000000");
-//		img.append("0000000");
-//		return new PixelImage(7,6,img.toString());
-		final String img = "000000000000000000000000000000000000000000";
-		return new PixelImage(7,6,img);
+		return getIcon("repeat-off.pbm");
 	}
 	
 	/**
@@ -23,7 +23,6 @@
  */
 package uk.org.dataforce.g15.plugins.clock;
 
-import java.awt.Point;
 import java.util.Date;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
@@ -64,6 +63,18 @@ public class Clock extends Plugin {
 	
 	/** clearScreen before drawing or not. */
 	boolean clearScreen = false;	
+	
+	/** Format used when drawing seconds. */
+	final DateFormat secondsFormat = new SimpleDateFormat("HH:mm:ss");
+	
+	/** Format used when not drawing seconds. */
+	final DateFormat minutesFormat = new SimpleDateFormat("HH:mm");
+	
+	/**
+	 * Text last drawn in full screen mode, so only digits that change need to
+	 * be drawn. null if everything needs to be drawn.
+	 */
+	String lastText = null;
 
 	/**
 	 * Called when the plugin is loaded.
@@ -83,6 +94,7 @@ public class Clock extends Plugin {
 	 */
 	public void changeScreen(G15Wrapper wrapper) {
 		myScreen = wrapper;
+		lastText = null;
 	}
 	
 	/**
@@ -94,44 +106,43 @@ public class Clock extends Plugin {
 	 * Called every 1/2 second for drawing related tasks when this screen is active.
 	 */
 	public void onRedraw() {
-		DateFormat dateFormat;
 		if (clearScreen) {
 			myScreen.clearScreen(false);
 			clearScreen = false;
+			lastText = null;
 		}
-		if (drawSeconds) {
-			dateFormat = new SimpleDateFormat("HH:mm:ss");
-		} else {
-			dateFormat = new SimpleDateFormat("HH:mm");
-		}
+		final DateFormat dateFormat = (drawSeconds) ? secondsFormat : minutesFormat;
 		if (drawingMode < 3) {
 			FontSize fontSize = FontSize.LARGE;
 			switch (drawingMode) {
 				case 0: fontSize = FontSize.SMALL; break;
 				case 1: fontSize = FontSize.MEDIUM; break;
 			}
-			myScreen.drawText(fontSize, new Point(0, (myScreen.getHeight()/2)-5), G15Position.CENTER, dateFormat.format(new Date()));	
+			myScreen.drawText(fontSize, 0, (myScreen.getHeight()/2)-5, G15Position.CENTER, dateFormat.format(new Date()));	
 		} else {
 			final String text = dateFormat.format(new Date());
 //			final String largeSpace = "000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000";
 			int xPos = 0;
 			if (!drawSeconds) {
-				xPos = font.getSize().width+14;
+				xPos = font.getWidth()+14;
 			}
 			for (int i = 0; i < text.length(); ++i) {
 				if (i > 0) {
-//					myScreen.drawPixels(new Point(xPos,0), 3, font.getSize().height, largeSpace);
+//					myScreen.drawPixels(xPos, 0, 3, font.getHeight(), largeSpace);
 					xPos = xPos+3;
 				}
-				int number;
-				try {
-					number = Integer.parseInt(""+text.charAt(i));
-					myScreen.drawPixels(new Point(xPos,1), font.getSize().width, font.getSize().height, font.getPixels(number+48));
-				} catch (NumberFormatException e) {
-					myScreen.drawPixels(new Point(xPos,1), font.getSize().width, font.getSize().height, font.getPixels(':'));
+				final char character = text.charAt(i);
+				// Only draw digits that have changed since the last redraw.
+				if (lastText == null || lastText.length() != text.length() || lastText.charAt(i) != character) {
+					if (character >= '0' && character <= '9') {
+						myScreen.drawGlyph(xPos, 1, font, character);
+					} else {
+						myScreen.drawGlyph(xPos, 1, font, ':');
+					}
 				}
-				xPos = xPos+font.getSize().width;
+				xPos = xPos+font.getWidth();
 			}
+			lastText = text;
 		}
 		myScreen.silentDraw();
 	}
@@ -141,6 +152,7 @@ public class Clock extends Plugin {
 	 * This needs to FULLY redraw the screen.
 	 */
 	public void onActivate() {
+		lastText = null;
 		onRedraw();
 	}
 	
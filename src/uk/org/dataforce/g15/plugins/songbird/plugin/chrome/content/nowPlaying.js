@@ -20,8 +20,8 @@ function NowPlaying_onLoad() {
 				                   "Position: "+SBDataGetStringValue("metadata.position")+"\n" +
 				                   "Length: "+SBDataGetStringValue("metadata.length")+"\n" +
 				                   "PositionStr: "+SBDataGetStringValue("metadata.position.str")+"\n" +
-				                   "LengthStr: "+SBDataGetStringValue("metadata.length.str")+"\n";
-				                   "Shuffle: "+SBDataGetStringValue("playlist.shuffle")+"\n";
+				                   "LengthStr: "+SBDataGetStringValue("metadata.length.str")+"\n" +
+				                   "Shuffle: "+SBDataGetStringValue("playlist.shuffle")+"\n" +
 				                   "Repeat: "+SBDataGetStringValue("playlist.repeat")+"\n";
 				var stream = transport.openOutputStream(0,0,0);
 				stream.write(outputString,outputString.length);
@@ -27,7 +27,6 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.BufferedReader;
 import java.io.FileReader;
-import java.awt.Point;
 import java.util.ArrayList;
 import java.util.Date;
 import java.text.DateFormat;
@@ -107,7 +106,7 @@ public class Stats extends Plugin {
 		}
 		outputString.add("Load: "+load[0]+", "+load[1]+", "+load[2]);
 	
-		myScreen.drawText(FontSize.SMALL, new Point(0, 0), G15Position.CENTER, outputString.toArray(new String[0]));
+		myScreen.drawText(FontSize.SMALL, 0, 0, G15Position.CENTER, outputString.toArray(new String[0]));
 		myScreen.silentDraw();
 	}
 	
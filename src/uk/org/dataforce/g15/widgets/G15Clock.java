@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2006-2008 Shane Mc Cormack
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SVN: $Id$
+ */
+package uk.org.dataforce.g15.widgets;
+
+import uk.org.dataforce.g15.FontSize;
+import uk.org.dataforce.g15.G15Position;
+
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * A label showing the current time.
+ */
+public class G15Clock extends G15Label {
+	/** Format used for the time. */
+	private final DateFormat format;
+	/** Time last passed to the format, in seconds. */
+	private long lastSecond = -1;
+	
+	/**
+	 * Create a new G15Clock, showing "HH:mm:ss".
+	 *
+	 * @param x1 Left of the area this clock owns
+	 * @param y1 Top of the area this clock owns
+	 * @param x2 Right of the area this clock owns
+	 * @param y2 Bottom of the area this clock owns
+	 * @param size Size of the text
+	 * @param x X position passed to drawText
+	 * @param y Y position passed to drawText
+	 * @param position Position of the text, as passed to drawText
+	 */
+	public G15Clock(final int x1, final int y1, final int x2, final int y2, final FontSize size, final int x, final int y, final G15Position position) {
+		this(x1, y1, x2, y2, size, x, y, position, new SimpleDateFormat("HH:mm:ss"));
+	}
+	
+	/**
+	 * Create a new G15Clock.
+	 *
+	 * @param x1 Left of the area this clock owns
+	 * @param y1 Top of the area this clock owns
+	 * @param x2 Right of the area this clock owns
+	 * @param y2 Bottom of the area this clock owns
+	 * @param size Size of the text
+	 * @param x X position passed to drawText
+	 * @param y Y position passed to drawText
+	 * @param position Position of the text, as passed to drawText
+	 * @param format Format used for the time, which should not show anything
+	 *               smaller than seconds.
+	 */
+	public G15Clock(final int x1, final int y1, final int x2, final int y2, final FontSize size, final int x, final int y, final G15Position position, final DateFormat format) {
+		super(x1, y1, x2, y2, size, x, y, position);
+		this.format = format;
+	}
+	
+	/**
+	 * Update the clock to the current time.
+	 * The time is only formatted once a second, and the clock is only drawn
+	 * again if the text has changed.
+	 */
+	public void update() {
+		final long now = System.currentTimeMillis();
+		if (now / 1000 != lastSecond) {
+			lastSecond = now / 1000;
+			setText(format.format(new Date(now)));
+		}
+	}
+}
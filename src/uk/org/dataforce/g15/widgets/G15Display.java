@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2006-2008 Shane Mc Cormack
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SVN: $Id$
+ */
+package uk.org.dataforce.g15.widgets;
+
+import uk.org.dataforce.g15.G15Wrapper;
+
+import java.util.ArrayList;
+
+/**
+ * A list of widgets making up a screen.
+ * Each call to render() only draws the widgets that have changed, so the work
+ * done on each redraw depends on what has changed rather than on everything
+ * that is on the screen.
+ * Widgets that can draw just their changes (such as a progress bar moving on)
+ * do so without being cleared.
+ * Widgets are drawn in the order they were added. A widget that is drawn (or
+ * hidden) also causes any later widget that it overlaps to be drawn again, so
+ * later widgets stay on top.
+ */
+public class G15Display {
+	/** Widgets on this display. */
+	private final ArrayList<G15Widget> widgets = new ArrayList<G15Widget>();
+	/** Widgets drawn or cleared by the current render(), reused to avoid garbage. */
+	private final ArrayList<G15Widget> damaged = new ArrayList<G15Widget>();
+	
+	/**
+	 * Add a widget to the top of this display.
+	 *
+	 * @param widget Widget to add
+	 * @return The widget, to allow it to be stored in a field as it is added.
+	 */
+	public <T extends G15Widget> T add(final T widget) {
+		widgets.add(widget);
+		widget.invalidate();
+		return widget;
+	}
+	
+	/**
+	 * Remove a widget from this display.
+	 * The area of the widget is not cleared.
+	 *
+	 * @param widget Widget to remove
+	 */
+	public void remove(final G15Widget widget) {
+		widgets.remove(widget);
+	}
+	
+	/**
+	 * Mark every widget as needing to be drawn, such as when the screen has
+	 * been cleared or drawn over.
+	 */
+	public void invalidate() {
+		for (G15Widget widget : widgets) {
+			widget.invalidate();
+		}
+	}
+	
+	/**
+	 * Draw every widget that has changed since the last render().
+	 *
+	 * @param screen Screen to draw on
+	 * @return true if anything was drawn.
+	 */
+	public boolean render(final G15Wrapper screen) {
+		damaged.clear();
+		// Hidden widgets are cleared first, so they can't clear over anything
+		// drawn below.
+		for (G15Widget widget : widgets) {
+			if (widget.dirty && !widget.isVisible()) {
+				widget.clear(screen);
+				widget.dirty = false;
+				widget.changed = false;
+				damaged.add(widget);
+			}
+		}
+		for (G15Widget widget : widgets) {
+			if (!widget.isVisible()) { continue; }
+			if (!widget.dirty && !isDamaged(widget)) {
+				if (!widget.changed) { continue; }
+				widget.changed = false;
+				if (widget.paintChanges(screen)) {
+					damaged.add(widget);
+					continue;
+				}
+			}
+			widget.clear(screen);
+			widget.paint(screen);
+			widget.dirty = false;
+			widget.changed = false;
+			damaged.add(widget);
+		}
+		final boolean result = !damaged.isEmpty();
+		damaged.clear();
+		return result;
+	}
+	
+	/**
+	 * Check if a widget overlaps anything drawn or cleared so far in this
+	 * render().
+	 *
+	 * @param widget Widget to check
+	 * @return true if the widget needs drawing again.
+	 */
+	private boolean isDamaged(final G15Widget widget) {
+		for (G15Widget other : damaged) {
+			if (widget.intersects(other)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
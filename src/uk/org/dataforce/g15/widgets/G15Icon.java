@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2006-2008 Shane Mc Cormack
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SVN: $Id$
+ */
+package uk.org.dataforce.g15.widgets;
+
+import uk.org.dataforce.g15.G15Wrapper;
+import uk.org.dataforce.g15.PixelImage;
+
+/**
+ * A small image, such as a status icon.
+ */
+public class G15Icon extends G15Widget {
+	/** X position the image is drawn at. */
+	private final int imageX;
+	/** Y position the image is drawn at. */
+	private final int imageY;
+	/** Current image, or null for none. */
+	private PixelImage image = null;
+	
+	/**
+	 * Create a new G15Icon.
+	 *
+	 * @param x1 Left of the area this icon owns
+	 * @param y1 Top of the area this icon owns
+	 * @param x2 Right of the area this icon owns
+	 * @param y2 Bottom of the area this icon owns
+	 * @param x X position the image is drawn at
+	 * @param y Y position the image is drawn at
+	 */
+	public G15Icon(final int x1, final int y1, final int x2, final int y2, final int x, final int y) {
+		super(x1, y1, x2, y2);
+		this.imageX = x;
+		this.imageY = y;
+	}
+	
+	/**
+	 * Set the image.
+	 * The icon is only drawn again if this is a different image, so shared
+	 * images (such as those from the AssetManager) should be used.
+	 *
+	 * @param newImage New image, or null for none
+	 */
+	public void setImage(final PixelImage newImage) {
+		if (newImage != image) {
+			image = newImage;
+			invalidate();
+		}
+	}
+	
+	/**
+	 * Get the image.
+	 *
+	 * @return The current image, or null if there is none
+	 */
+	public PixelImage getImage() {
+		return image;
+	}
+	
+	/** {@inheritDoc} */
+	protected void paint(final G15Wrapper screen) {
+		if (image != null) {
+			screen.drawPixels(imageX, imageY, image);
+		}
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2006-2008 Shane Mc Cormack
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SVN: $Id$
+ */
+package uk.org.dataforce.g15.widgets;
+
+import uk.org.dataforce.g15.FontSize;
+import uk.org.dataforce.g15.G15Position;
+import uk.org.dataforce.g15.G15Wrapper;
+
+/**
+ * A line of text.
+ */
+public class G15Label extends G15Widget {
+	/** Size of the text. */
+	private final FontSize size;
+	/** X position passed to drawText. */
+	private final int textX;
+	/** Y position passed to drawText. */
+	private final int textY;
+	/** Position of the text. */
+	private final G15Position position;
+	/** Current text. */
+	private String text = "";
+	
+	/**
+	 * Create a new G15Label.
+	 *
+	 * @param x1 Left of the area this label owns
+	 * @param y1 Top of the area this label owns
+	 * @param x2 Right of the area this label owns
+	 * @param y2 Bottom of the area this label owns
+	 * @param size Size of the text
+	 * @param x X position passed to drawText
+	 * @param y Y position passed to drawText
+	 * @param position Position of the text, as passed to drawText
+	 */
+	public G15Label(final int x1, final int y1, final int x2, final int y2, final FontSize size, final int x, final int y, final G15Position position) {
+		super(x1, y1, x2, y2);
+		this.size = size;
+		this.textX = x;
+		this.textY = y;
+		this.position = position;
+	}
+	
+	/**
+	 * Set the text.
+	 * The label is only drawn again if the text has changed.
+	 *
+	 * @param newText New text (null is treated as "")
+	 */
+	public void setText(final String newText) {
+		final String value = (newText == null) ? "" : newText;
+		if (!value.equals(text)) {
+			text = value;
+			invalidate();
+		}
+	}
+	
+	/**
+	 * Get the text.
+	 *
+	 * @return The current text
+	 */
+	public String getText() {
+		return text;
+	}
+	
+	/** {@inheritDoc} */
+	protected void paint(final G15Wrapper screen) {
+		if (!text.isEmpty()) {
+			screen.drawText(size, textX, textY, position, text);
+		}
+	}
+}
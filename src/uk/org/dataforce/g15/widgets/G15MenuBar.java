@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2006-2008 Shane Mc Cormack
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SVN: $Id$
+ */
+package uk.org.dataforce.g15.widgets;
+
+import uk.org.dataforce.g15.FontSize;
+import uk.org.dataforce.g15.G15Position;
+import uk.org.dataforce.g15.G15Wrapper;
+
+/**
+ * The labels for the 4 LCD buttons along the bottom of the screen, with a
+ * status in the middle.
+ */
+public class G15MenuBar extends G15Widget {
+	/** X position of each button label. */
+	private static final int[] BUTTON_X = {11, 42, 70, 110, 135};
+	/** Position of each button label. */
+	private static final G15Position[] BUTTON_POSITION = {G15Position.LEFT, G15Position.LEFT, G15Position.CENTER, G15Position.LEFT, G15Position.LEFT};
+	/** Y position of the labels. */
+	private static final int TEXT_Y = 36;
+	/** Current labels. */
+	private final String[] buttons = new String[]{"", "", "", "", ""};
+	
+	/**
+	 * Create a new G15MenuBar, in the usual place at the bottom of the screen.
+	 */
+	public G15MenuBar() {
+		super(3, 35, G15Wrapper.getWidth()-4, 41);
+	}
+	
+	/**
+	 * Set all the labels.
+	 * The menu bar is only drawn again if a label has changed. The array is
+	 * copied, so can be changed and passed in again later.
+	 *
+	 * @param newButtons Labels, the 4 buttons with the status as the middle one.
+	 */
+	public void setButtons(final String[] newButtons) {
+		for (int i = 0; i < buttons.length; ++i) {
+			setButton(i, (i < newButtons.length) ? newButtons[i] : "");
+		}
+	}
+	
+	/**
+	 * Set one label.
+	 *
+	 * @param button Label to set, 0-4 with 2 being the status.
+	 * @param text New label (null is treated as "")
+	 */
+	public void setButton(final int button, final String text) {
+		final String value = (text == null) ? "" : text;
+		if (!value.equals(buttons[button])) {
+			buttons[button] = value;
+			invalidate();
+		}
+	}
+	
+	/**
+	 * Get one label.
+	 *
+	 * @param button Label to get, 0-4 with 2 being the status.
+	 * @return The label
+	 */
+	public String getButton(final int button) {
+		return buttons[button];
+	}
+	
+	/** {@inheritDoc} */
+	protected void paint(final G15Wrapper screen) {
+		for (int i = 0; i < buttons.length; ++i) {
+			if (!buttons[i].isEmpty()) {
+				screen.drawText(FontSize.SMALL, BUTTON_X[i], TEXT_Y, BUTTON_POSITION[i], buttons[i]);
+			}
+		}
+	}
+}
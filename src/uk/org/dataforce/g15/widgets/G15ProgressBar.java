@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2006-2008 Shane Mc Cormack
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SVN: $Id$
+ */
+package uk.org.dataforce.g15.widgets;
+
+import uk.org.dataforce.g15.G15Wrapper;
+import uk.org.dataforce.g15.ProgressBarType;
+
+/**
+ * A progress bar.
+ * The bar remembers how far it was filled when it was last drawn, so moving it
+ * on only changes the columns between the old and new fill, and a change in
+ * position that doesn't move the fill draws nothing at all.
+ */
+public class G15ProgressBar extends G15Widget {
+	/** X of the start of the bar, as passed to drawProgressBar. */
+	private final int barX1;
+	/** Y of the start of the bar, as passed to drawProgressBar. */
+	private final int barY1;
+	/** X of the end of the bar, as passed to drawProgressBar. */
+	private final int barX2;
+	/** Y of the end of the bar, as passed to drawProgressBar. */
+	private final int barY2;
+	/** Type of bar. */
+	private ProgressBarType type;
+	/** Type of an empty bar to draw first, or null. */
+	private ProgressBarType backgroundType = null;
+	/** Current position. */
+	private int position = 0;
+	/** Maximum position. */
+	private int maxPosition = 1;
+	/** Fill length the bar was last drawn with, or -1 if it hasn't been drawn. */
+	private int drawnLength = -1;
+	
+	/**
+	 * Create a new G15ProgressBar.
+	 * The arguments are the same as for G15Wrapper.drawProgressBar, the bar
+	 * owns the area from y1-1 to y2+1 as the border is drawn around y1 to y2.
+	 *
+	 * @param x1 X of the start of the bar
+	 * @param y1 Y of the start of the bar
+	 * @param x2 X of the end of the bar
+	 * @param y2 Y of the end of the bar
+	 * @param type Type of bar
+	 */
+	public G15ProgressBar(final int x1, final int y1, final int x2, final int y2, final ProgressBarType type) {
+		super(x1, y1 - 1, x2, y2 + 1);
+		this.barX1 = x1;
+		this.barY1 = y1;
+		this.barX2 = x2;
+		this.barY2 = y2;
+		this.type = type;
+	}
+	
+	/**
+	 * Set the position of the bar.
+	 * The bar is only drawn again if this changes how far it is filled, so this
+	 * can be called as often as wanted, with positions as fine as wanted.
+	 *
+	 * @param newPosition Current position
+	 * @param newMaxPosition Maximum position
+	 */
+	public void setValue(final int newPosition, final int newMaxPosition) {
+		if (position != newPosition || maxPosition != newMaxPosition) {
+			position = newPosition;
+			maxPosition = newMaxPosition;
+			if (getLength() != drawnLength) {
+				invalidateChanges();
+			}
+		}
+	}
+	
+	/**
+	 * Get how far the bar is filled for the current position.
+	 *
+	 * @return Fill length of the bar.
+	 */
+	private int getLength() {
+		return G15Wrapper.getProgressBarLength(barX1, barX2, position, maxPosition);
+	}
+	
+	/**
+	 * Get the current position.
+	 *
+	 * @return Current position
+	 */
+	public int getPosition() {
+		return position;
+	}
+	
+	/**
+	 * Get the maximum position.
+	 *
+	 * @return Maximum position
+	 */
+	public int getMaxPosition() {
+		return maxPosition;
+	}
+	
+	/**
+	 * Set the type of bar.
+	 *
+	 * @param newType Type of bar
+	 */
+	public void setType(final ProgressBarType newType) {
+		if (type != newType) {
+			type = newType;
+			invalidate();
+		}
+	}
+	
+	/**
+	 * Set the type of an empty bar that is drawn before the bar itself.
+	 * This is used by the pbar3fix option, where an empty TYPE3 bar is drawn
+	 * under a TYPE1 bar.
+	 *
+	 * @param newType Type of the empty bar, or null for none.
+	 */
+	public void setBackgroundType(final ProgressBarType newType) {
+		if (backgroundType != newType) {
+			backgroundType = newType;
+			invalidate();
+		}
+	}
+	
+	/** {@inheritDoc} */
+	protected void paint(final G15Wrapper screen) {
+		if (backgroundType != null) {
+			screen.drawProgressBar(barX1, barY1, barX2, barY2, true, 0, maxPosition, backgroundType);
+		}
+		screen.drawProgressBar(barX1, barY1, barX2, barY2, true, position, maxPosition, type);
+		drawnLength = getLength();
+	}
+	
+	/** {@inheritDoc} */
+	protected boolean paintChanges(final G15Wrapper screen) {
+		final int length = getLength();
+		if (screen.updateProgressBar(barX1, barY1, barX2, barY2, true, drawnLength, length, type)) {
+			drawnLength = length;
+			return true;
+		}
+		return false;
+	}
+}
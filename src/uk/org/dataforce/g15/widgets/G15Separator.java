@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2006-2008 Shane Mc Cormack
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SVN: $Id$
+ */
+package uk.org.dataforce.g15.widgets;
+
+import uk.org.dataforce.g15.G15Wrapper;
+
+/**
+ * A straight line, such as the line under the title bar.
+ * This has no value, so is only drawn when the display is invalidated or a
+ * widget below it is drawn.
+ */
+public class G15Separator extends G15Widget {
+	/**
+	 * Create a new G15Separator.
+	 *
+	 * @param x1 X of the start of the line
+	 * @param y1 Y of the start of the line
+	 * @param x2 X of the end of the line
+	 * @param y2 Y of the end of the line
+	 */
+	public G15Separator(final int x1, final int y1, final int x2, final int y2) {
+		super(Math.min(x1, x2), Math.min(y1, y2), Math.max(x1, x2), Math.max(y1, y2));
+	}
+	
+	/** {@inheritDoc} */
+	protected void paint(final G15Wrapper screen) {
+		screen.drawLine(x1, y1, x2, y2, true);
+	}
+}
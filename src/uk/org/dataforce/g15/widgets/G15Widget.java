@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2006-2008 Shane Mc Cormack
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SVN: $Id$
+ */
+package uk.org.dataforce.g15.widgets;
+
+import uk.org.dataforce.g15.G15Wrapper;
+
+/**
+ * A part of the screen that is drawn from a value, such as a label or a
+ * progress bar.
+ * Widgets only mark themselves as needing drawing when their value changes,
+ * and are then drawn by a G15Display. A widget owns a rectangle of the screen,
+ * which is cleared before the widget is drawn, and the widget must not draw
+ * outside of it.
+ * The rectangle includes its right and bottom edges, so widgets on a screen
+ * with the rounded border must keep x2 at 156 or less (or x1 at 3 or more)
+ * on the rows where the border curves in.
+ */
+public abstract class G15Widget {
+	/** Left of the area this widget owns. */
+	protected final int x1;
+	/** Top of the area this widget owns. */
+	protected final int y1;
+	/** Right of the area this widget owns. */
+	protected final int x2;
+	/** Bottom of the area this widget owns. */
+	protected final int y2;
+	/** Does this widget need drawing? */
+	boolean dirty = true;
+	/** Does this widget have changes that paintChanges() can draw? */
+	boolean changed = false;
+	/** Is this widget shown? */
+	private boolean visible = true;
+	
+	/**
+	 * Create a new G15Widget.
+	 *
+	 * @param x1 Left of the area this widget owns
+	 * @param y1 Top of the area this widget owns
+	 * @param x2 Right of the area this widget owns
+	 * @param y2 Bottom of the area this widget owns
+	 */
+	protected G15Widget(final int x1, final int y1, final int x2, final int y2) {
+		this.x1 = x1;
+		this.y1 = y1;
+		this.x2 = x2;
+		this.y2 = y2;
+	}
+	
+	/**
+	 * Mark this widget as needing to be drawn.
+	 */
+	public void invalidate() {
+		dirty = true;
+	}
+	
+	/**
+	 * Mark this widget as having changes that paintChanges() can draw over
+	 * what is already on the screen, without clearing the widget first.
+	 * If the widget needs drawing in full anyway, only paint() is used.
+	 */
+	protected void invalidateChanges() {
+		changed = true;
+	}
+	
+	/**
+	 * Does this widget need to be drawn?
+	 *
+	 * @return true if this widget has changed since it was last drawn.
+	 */
+	public boolean isDirty() {
+		return dirty;
+	}
+	
+	/**
+	 * Show or hide this widget.
+	 * Hiding a widget clears its area the next time the display is drawn.
+	 *
+	 * @param newValue True to show this widget, false to hide it.
+	 */
+	public void setVisible(final boolean newValue) {
+		if (visible != newValue) {
+			visible = newValue;
+			dirty = true;
+		}
+	}
+	
+	/**
+	 * Is this widget shown?
+	 *
+	 * @return true if this widget is shown.
+	 */
+	public boolean isVisible() {
+		return visible;
+	}
+	
+	/**
+	 * Check if this widget overlaps another.
+	 *
+	 * @param other Widget to check
+	 * @return true if the areas of the two widgets overlap.
+	 */
+	boolean intersects(final G15Widget other) {
+		return x1 <= other.x2 && other.x1 <= x2 && y1 <= other.y2 && other.y1 <= y2;
+	}
+	
+	/**
+	 * Clear the area of this widget.
+	 *
+	 * @param screen Screen to draw on
+	 */
+	void clear(final G15Wrapper screen) {
+		// fillArea stops short of x2, so go one past it.
+		screen.fillArea(x1, y1, x2 + 1, y2, false);
+	}
+	
+	/**
+	 * Draw this widget.
+	 * The area of the widget has already been cleared.
+	 *
+	 * @param screen Screen to draw on
+	 */
+	protected abstract void paint(final G15Wrapper screen);
+	
+	/**
+	 * Draw only what has changed since this widget was last drawn.
+	 * The area of the widget has not been cleared, and still holds what was
+	 * drawn last time.
+	 *
+	 * @param screen Screen to draw on
+	 * @return true if the changes were drawn, false if the widget needs to be
+	 *         cleared and drawn in full instead.
+	 */
+	protected boolean paintChanges(final G15Wrapper screen) {
+		return false;
+	}
+}
@@ -0,0 +1,367 @@
+/*
+ * Copyright (c) 2006-2008 Shane Mc Cormack
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SVN: $Id$
+ */
+package uk.org.dataforce.g15;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Golden tests for the rasterizers in G15FrameBuffer.
+ * These used to be drawn with Java2D on a 1-bit BufferedImage, so boxes and
+ * rounded boxes are checked against that, both as fixed patterns and against
+ * Java2D itself over a range of positions and sizes.
+ *
+ * Two differences from the old output are intended:
+ * - Java2D on a 1-bit image drops most of the pixels of lines drawn upwards or
+ *   right-to-left. Lines are checked against Java2D on an RGB image instead,
+ *   which draws every line whole.
+ * - drawOval on a 1-bit image had gaps for the same reason, and fillOval was
+ *   not symmetric, so circles are now midpoint circles and are only checked
+ *   against fixed patterns.
+ */
+public class G15FrameBufferTest {
+	/**
+	 * Get the pixels of a buffer as rows of '#' (black) and '.' (white).
+	 *
+	 * @param buffer Buffer to read
+	 * @return The rows, each ending in a newline.
+	 */
+	private static String pixels(final G15FrameBuffer buffer) {
+		final StringBuilder result = new StringBuilder();
+		for (int y = 0; y < buffer.height(); ++y) {
+			for (int x = 0; x < buffer.width(); ++x) {
+				result.append(buffer.getPixel(x, y) ? '#' : '.');
+			}
+			result.append('\n');
+		}
+		return result.toString();
+	}
+	
+	/**
+	 * Get the pixels of an image as rows of '#' and '.', in the same way as
+	 * pixels(G15FrameBuffer).
+	 *
+	 * @param image Image to read
+	 * @param isBlack True if black pixels are set, false if white ones are
+	 * @return The rows, each ending in a newline.
+	 */
+	private static String pixels(final BufferedImage image, final boolean isBlack) {
+		final StringBuilder result = new StringBuilder();
+		for (int y = 0; y < image.getHeight(); ++y) {
+			for (int x = 0; x < image.getWidth(); ++x) {
+				final boolean black = (image.getRGB(x, y) & 0xFFFFFF) == 0;
+				result.append((black == isBlack) ? '#' : '.');
+			}
+			result.append('\n');
+		}
+		return result.toString();
+	}
+	
+	/**
+	 * Join the rows of an expected pattern in the same way as pixels().
+	 *
+	 * @param rows Rows of the pattern
+	 * @return The rows, each ending in a newline.
+	 */
+	private static String rows(final String... rows) {
+		final StringBuilder result = new StringBuilder();
+		for (String row : rows) {
+			result.append(row).append('\n');
+		}
+		return result.toString();
+	}
+	
+	/**
+	 * Make a white 1-bit image, as the wrappers used to draw on.
+	 *
+	 * @param width Width of the image
+	 * @param height Height of the image
+	 * @return The image.
+	 */
+	private static BufferedImage binaryImage(final int width, final int height) {
+		final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_BINARY);
+		final Graphics2D graphics = image.createGraphics();
+		graphics.setColor(Color.WHITE);
+		graphics.fillRect(0, 0, width, height);
+		graphics.setColor(Color.BLACK);
+		return image;
+	}
+	
+	/** Test lines going down and to the right. */
+	@Test
+	public void testLine() {
+		final G15FrameBuffer buffer = new G15FrameBuffer(10, 4);
+		buffer.drawLine(0, 0, 9, 3, true);
+		assertEquals(rows(
+			"##........",
+			"..###.....",
+			".....###..",
+			"........##"), pixels(buffer));
+	}
+	
+	/** Test lines going up or to the left, which Java2D used to break up. */
+	@Test
+	public void testBackwardsLine() {
+		G15FrameBuffer buffer = new G15FrameBuffer(10, 4);
+		buffer.drawLine(0, 3, 9, 0, true);
+		assertEquals(rows(
+			"........##",
+			".....###..",
+			"..###.....",
+			"##........"), pixels(buffer));
+		
+		buffer = new G15FrameBuffer(4, 8);
+		buffer.drawLine(3, 7, 0, 0, true);
+		assertEquals(rows(
+			"#...",
+			"#...",
+			".#..",
+			".#..",
+			"..#.",
+			"..#.",
+			"...#",
+			"...#"), pixels(buffer));
+	}
+	
+	/** Test that lines match Java2D on an RGB image, including clipped ones. */
+	@Test
+	public void testLinesMatchJava2D() {
+		final BufferedImage image = new BufferedImage(40, 20, BufferedImage.TYPE_INT_RGB);
+		final Graphics2D graphics = image.createGraphics();
+		final G15FrameBuffer buffer = new G15FrameBuffer(40, 20);
+		for (int x1 = -4; x1 < 44; x1 += 3) {
+			for (int y1 = -3; y1 < 23; y1 += 2) {
+				for (int x2 = -4; x2 < 44; x2 += 5) {
+					for (int y2 = -3; y2 < 23; y2 += 3) {
+						graphics.setColor(Color.BLACK);
+						graphics.fillRect(0, 0, 40, 20);
+						graphics.setColor(Color.WHITE);
+						graphics.drawLine(x1, y1, x2, y2);
+						buffer.clear(false);
+						buffer.drawLine(x1, y1, x2, y2, true);
+						assertEquals("Line "+x1+","+y1+" to "+x2+","+y2, pixels(image, false), pixels(buffer));
+					}
+				}
+			}
+		}
+	}
+	
+	/** Test rectangle outlines of different thicknesses. */
+	@Test
+	public void testRect() {
+		G15FrameBuffer buffer = new G15FrameBuffer(10, 7);
+		buffer.drawRect(2, 1, 5, 4, 1, true);
+		assertEquals(rows(
+			"..........",
+			"..######..",
+			"..#....#..",
+			"..#....#..",
+			"..#....#..",
+			"..######..",
+			".........."), pixels(buffer));
+		
+		buffer = new G15FrameBuffer(10, 7);
+		buffer.drawRect(2, 1, 5, 4, 2, true);
+		assertEquals(rows(
+			".#######..",
+			".#######..",
+			".##...##..",
+			".##...##..",
+			".#######..",
+			".#######..",
+			".........."), pixels(buffer));
+		
+		buffer = new G15FrameBuffer(10, 7);
+		buffer.drawRect(2, 1, 5, 4, 3, true);
+		assertEquals(rows(
+			".########.",
+			".########.",
+			".########.",
+			".###..###.",
+			".########.",
+			".########.",
+			".########."), pixels(buffer));
+	}
+	
+	/** Test that rectangles match Java2D on a 1-bit image. */
+	@Test
+	public void testRectsMatchJava2D() {
+		final BufferedImage image = binaryImage(40, 20);
+		final Graphics2D graphics = image.createGraphics();
+		final G15FrameBuffer buffer = new G15FrameBuffer(40, 20);
+		for (int thickness = 0; thickness <= 3; ++thickness) {
+			graphics.setStroke(new BasicStroke(thickness));
+			for (int x = -3; x < 8; x += 2) {
+				for (int y = -3; y < 6; y += 2) {
+					for (int width = -1; width < 40; width += 4) {
+						for (int height = -1; height < 20; height += 3) {
+							graphics.setColor(Color.WHITE);
+							graphics.fillRect(0, 0, 40, 20);
+							graphics.setColor(Color.BLACK);
+							graphics.drawRect(x, y, width, height);
+							buffer.clear(false);
+							buffer.drawRect(x, y, width, height, thickness, true);
+							assertEquals("Rect "+x+","+y+" "+width+"x"+height+" thickness "+thickness, pixels(image, true), pixels(buffer));
+						}
+					}
+				}
+			}
+		}
+	}
+	
+	/** Test a rounded rectangle. */
+	@Test
+	public void testRoundedRect() {
+		final G15FrameBuffer buffer = new G15FrameBuffer(12, 10);
+		buffer.drawRoundedRect(1, 0, 10, 9, true);
+		assertEquals(rows(
+			"....#####...",
+			"..##.....##.",
+			"..#.......#.",
+			".#.........#",
+			".#.........#",
+			".#.........#",
+			".#.........#",
+			"..#.......#.",
+			"..##.....##.",
+			"....#####..."), pixels(buffer));
+	}
+	
+	/** Test that rounded rectangles match Java2D's 8x8 arcs on a 1-bit image. */
+	@Test
+	public void testRoundedRectsMatchJava2D() {
+		final BufferedImage image = binaryImage(40, 20);
+		final Graphics2D graphics = image.createGraphics();
+		final G15FrameBuffer buffer = new G15FrameBuffer(40, 20);
+		for (int x = -2; x < 4; ++x) {
+			for (int y = -2; y < 3; ++y) {
+				for (int width = 8; width < 40; ++width) {
+					for (int height = 8; height < 20; ++height) {
+						graphics.setColor(Color.WHITE);
+						graphics.fillRect(0, 0, 40, 20);
+						graphics.setColor(Color.BLACK);
+						graphics.drawRoundRect(x, y, width, height, 8, 8);
+						buffer.clear(false);
+						buffer.drawRoundedRect(x, y, width, height, true);
+						assertEquals("Rounded rect "+x+","+y+" "+width+"x"+height, pixels(image, true), pixels(buffer));
+					}
+				}
+			}
+		}
+	}
+	
+	/** Test circle outlines, and that a negative radius draws nothing. */
+	@Test
+	public void testCircle() {
+		final String[][] expected = {
+			{"...",
+			 ".#.",
+			 "..."},
+			{".....",
+			 "..#..",
+			 ".#.#.",
+			 "..#..",
+			 "....."},
+			{".......",
+			 "..###..",
+			 ".#...#.",
+			 ".#...#.",
+			 ".#...#.",
+			 "..###..",
+			 "......."},
+			{".........",
+			 "...###...",
+			 "..#...#..",
+			 ".#.....#.",
+			 ".#.....#.",
+			 ".#.....#.",
+			 "..#...#..",
+			 "...###...",
+			 "........."},
+		};
+		for (int radius = 0; radius < expected.length; ++radius) {
+			final G15FrameBuffer buffer = new G15FrameBuffer(radius * 2 + 3, radius * 2 + 3);
+			buffer.drawCircle(radius + 1, radius + 1, radius, false, true);
+			assertEquals("Radius "+radius, rows(expected[radius]), pixels(buffer));
+		}
+		
+		final G15FrameBuffer buffer = new G15FrameBuffer(3, 3);
+		buffer.drawCircle(1, 1, -1, false, true);
+		assertEquals(rows("...", "...", "..."), pixels(buffer));
+	}
+	
+	/** Test a filled circle. */
+	@Test
+	public void testFilledCircle() {
+		final G15FrameBuffer buffer = new G15FrameBuffer(9, 9);
+		buffer.drawCircle(4, 4, 3, true, true);
+		assertEquals(rows(
+			".........",
+			"...###...",
+			"..#####..",
+			".#######.",
+			".#######.",
+			".#######.",
+			"..#####..",
+			"...###...",
+			"........."), pixels(buffer));
+	}
+	
+	/**
+	 * Test that the wrapper's drawBox, drawLine and drawRoundedBox still give
+	 * what they gave when they went through Java2D.
+	 */
+	@Test
+	public void testWrapperMatchesJava2D() {
+		final G15OffscreenWrapper wrapper = new G15OffscreenWrapper();
+		final BufferedImage image = binaryImage(G15Wrapper.getWidth(), G15Wrapper.getHeight());
+		final Graphics2D graphics = image.createGraphics();
+		graphics.setColor(Color.BLACK);
+		
+		wrapper.clearScreen(false);
+		wrapper.drawRoundedBox(0, 0, 159, 42, true, false);
+		wrapper.drawRoundedBox(20, 20, 25, 24, true, false);
+		wrapper.drawLine(124, 0, 124, 8, true);
+		wrapper.drawLine(0, 8, 160, 8, true);
+		wrapper.drawLine(3, 10, 60, 30, true);
+		wrapper.drawBox(30, 12, 80, 18, true, 1);
+		wrapper.drawBox(150, 30, 90, 25, true, 2);
+		
+		graphics.drawRoundRect(0, 0, 159, 42, 8, 8);
+		graphics.drawRoundRect(20, 20, 5, 4, 8, 8);
+		graphics.drawLine(124, 0, 124, 8);
+		graphics.drawLine(0, 8, 160, 8);
+		graphics.drawLine(3, 10, 60, 30);
+		graphics.drawRect(30, 12, 50, 7);
+		graphics.setStroke(new BasicStroke(2));
+		graphics.drawRect(90, 25, 60, 4);
+		
+		assertEquals(pixels(image, true), pixels(wrapper.frame));
+	}
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2006-2008 Shane Mc Cormack
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SVN: $Id$
+ */
+package uk.org.dataforce.g15.widgets;
+
+import uk.org.dataforce.g15.FontSize;
+import uk.org.dataforce.g15.G15FrameBuffer;
+import uk.org.dataforce.g15.G15OffscreenWrapper;
+import uk.org.dataforce.g15.G15Position;
+import uk.org.dataforce.g15.G15Wrapper;
+import uk.org.dataforce.g15.PixelImage;
+import uk.org.dataforce.g15.ProgressBarType;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Tests for G15Display.
+ * The screens here use the same layout as the Amarok and Songbird plugins,
+ * drawn inside the rounded border that G15Control and the plugins draw, and
+ * check that drawing only what changed gives the same frame as drawing the
+ * whole screen again.
+ */
+public class G15DisplayTest {
+	/** Status icons, filled right to their edges. */
+	private static final PixelImage[] ICONS = {
+		null,
+		new PixelImage(7, 6, "111111110000011000001100000110000011111111"),
+		new PixelImage(7, 6, "100000101000100010100000100000101000100011"),
+	};
+	
+	/** A screen laid out like the plugin screens. */
+	private static class Screen {
+		/** Where the screen is drawn. */
+		final G15OffscreenWrapper wrapper = new G15OffscreenWrapper();
+		/** The widgets. */
+		final G15Display display = new G15Display();
+		/** Message shown in place of the track details. */
+		final G15Label message = display.add(new G15Label(1, 9, 157, 33, FontSize.LARGE, 0, (G15Wrapper.getHeight()/2)-3, G15Position.CENTER));
+		/** Time of the current track. */
+		final G15Label time = display.add(new G15Label(1, 22, 157, 27, FontSize.SMALL, 0, 22, G15Position.CENTER));
+		/** Progress through the current track. */
+		final G15ProgressBar bar = display.add(new G15ProgressBar(10, 30, 150, 30, ProgressBarType.TYPE3));
+		/** A taller progress bar, so the fill can be seen. */
+		final G15ProgressBar tallBar = display.add(new G15ProgressBar(10, 12, 150, 18, ProgressBarType.TYPE1));
+		/** Screen title. */
+		final G15Label title = display.add(new G15Label(3, 1, 103, 7, FontSize.SMALL, 4, 2, G15Position.LEFT));
+		/** Repeat status. */
+		final G15Icon repeat = display.add(new G15Icon(105, 1, 112, 7, 106, 2));
+		/** Shuffle status. */
+		final G15Icon shuffle = display.add(new G15Icon(115, 1, 122, 7, 116, 2));
+		/** The clock, given fixed times so the test doesn't depend on the time. */
+		final G15Clock clock = display.add(new G15Clock(125, 1, 156, 7, FontSize.SMALL, 126, 2, G15Position.LEFT));
+		/** The menu. */
+		final G15MenuBar menu = display.add(new G15MenuBar());
+		
+		/** Create a new Screen, and draw it in full. */
+		Screen() {
+			display.add(new G15Separator(124, 0, 124, 8));
+			display.add(new G15Separator(114, 0, 114, 8));
+			display.add(new G15Separator(104, 0, 104, 8));
+			display.add(new G15Separator(0, 8, G15Wrapper.getWidth(), 8));
+			display.add(new G15Separator(0, 34, G15Wrapper.getWidth(), 34));
+			drawAll();
+		}
+		
+		/** Draw the whole screen, as the plugins do when they are activated. */
+		void drawAll() {
+			wrapper.clearScreen(false);
+			wrapper.drawRoundedBox(0, 0, G15Wrapper.getWidth()-1, G15Wrapper.getHeight()-1, true, false);
+			display.invalidate();
+			display.render(wrapper);
+		}
+		
+		/**
+		 * Set every widget from a tick number, so the same tick always gives the
+		 * same screen.
+		 *
+		 * @param tick Tick to show
+		 */
+		void setTick(final int tick) {
+			final boolean showMessage = (tick / 7) % 5 == 4;
+			message.setText((tick % 2 == 0) ? "Nothing playing." : "Amarok not running.");
+			message.setVisible(showMessage);
+			time.setVisible(!showMessage);
+			bar.setVisible(!showMessage);
+			tallBar.setVisible(!showMessage);
+			time.setText(String.format("%d:%02d - 4:00", tick / 60 % 5, tick % 60));
+			bar.setValue(tick * 1000 % 240000, 240000);
+			tallBar.setValue((tick * 37) % 500, 500 - (tick / 50) % 3);
+			title.setText((tick / 20 % 2 == 0) ? "G15AmarokControl" : "G15SongbirdControl");
+			repeat.setImage(ICONS[tick / 3 % ICONS.length]);
+			shuffle.setImage(ICONS[tick / 5 % ICONS.length]);
+			clock.setText(String.format("%02d:%02d:%02d", tick / 3600 % 24, tick / 60 % 60, tick % 60));
+			menu.setButtons(new String[]{"Prev", (tick / 9 % 2 == 0) ? "Rand" : "Norm", (tick / 4 % 2 == 0) ? "Play" : "Paus", "PB+", "Next"});
+		}
+		
+		/**
+		 * Get the frame as it is now.
+		 *
+		 * @return Copy of the frame.
+		 */
+		G15FrameBuffer getFrame() {
+			wrapper.silentDraw();
+			return new G15FrameBuffer(wrapper.getLastFrame());
+		}
+	}
+	
+	/** Test that drawing only what changed matches drawing everything. */
+	@Test
+	public void testPartialMatchesFull() {
+		final Screen partial = new Screen();
+		for (int tick = 0; tick < 400; ++tick) {
+			partial.setTick(tick);
+			partial.display.render(partial.wrapper);
+			
+			final Screen full = new Screen();
+			full.setTick(tick);
+			full.drawAll();
+			assertEquals("Tick "+tick, full.getFrame(), partial.getFrame());
+		}
+	}
+	
+	/** Test that a render with nothing changed draws nothing. */
+	@Test
+	public void testNothingChanged() {
+		final Screen screen = new Screen();
+		screen.setTick(5);
+		screen.display.render(screen.wrapper);
+		screen.setTick(5);
+		assertFalse(screen.display.render(screen.wrapper));
+		
+		// Moving the bar on by less than a column draws nothing either.
+		screen.bar.setValue(screen.bar.getPosition() + 1, screen.bar.getMaxPosition());
+		assertFalse(screen.display.render(screen.wrapper));
+	}
+	
+	/** Test that the widgets never draw over the rounded border. */
+	@Test
+	public void testBorderKept() {
+		final G15OffscreenWrapper border = new G15OffscreenWrapper();
+		border.clearScreen(false);
+		border.drawRoundedBox(0, 0, G15Wrapper.getWidth()-1, G15Wrapper.getHeight()-1, true, false);
+		final G15FrameBuffer borderFrame = new G15FrameBuffer(G15Wrapper.getWidth(), G15Wrapper.getHeight());
+		border.silentDraw();
+		borderFrame.copyFrom(border.getLastFrame());
+		
+		final Screen screen = new Screen();
+		for (int tick = 0; tick < 200; ++tick) {
+			screen.setTick(tick);
+			screen.display.render(screen.wrapper);
+			final G15FrameBuffer frame = screen.getFrame();
+			for (int y = 0; y < frame.height(); ++y) {
+				for (int x = 0; x < frame.width(); ++x) {
+					if (borderFrame.getPixel(x, y)) {
+						assertEquals("Border pixel "+x+","+y+" at tick "+tick, true, frame.getPixel(x, y));
+					}
+				}
+			}
+		}
+	}
+}